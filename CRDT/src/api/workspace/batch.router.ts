@@ -0,0 +1,189 @@
+import { Router, type Request, type Response } from "express";
+import { isValidNodePayload } from "../../domain/node/nodePayload";
+import { getYDocByRoom } from "../../yjs/ydoc-gateway";
+import { applyNodeCreation } from "./node.router";
+import {
+  applyCustomTech,
+  applyTechRecommendations,
+  resetTechPending,
+} from "./tech.router";
+import { applyCandidates, resetCandidatePending } from "./candidate.router";
+
+type BatchEventType =
+  | "NODE"
+  | "TECH"
+  | "CUSTOM_TECH"
+  | "CANDIDATE"
+  | "TECH_RESET"
+  | "CANDIDATE_RESET";
+
+interface BatchEvent {
+  id?: string; // 멱등 키 (재전송되어도 같은 값)
+  type: BatchEventType;
+  nodeId: number | null;
+  payload: any;
+}
+
+const router: Router = Router({ mergeParams: true });
+
+// Spring 서버는 실패한 배치를 다시 보내므로(at-least-once) 워크스페이스별 최근 반영한 이벤트 ID로 중복을 버림
+// 재전송은 짧은 시간 안에 일어나므로 최근 사용한 워크스페이스만 LRU로 유지
+const RECENT_EVENT_LIMIT = 1000;
+const MAX_TRACKED_WORKSPACES = 500;
+const appliedEventIds = new Map<string, Set<string>>();
+
+function isApplied(workspaceId: string, eventId?: string) {
+  return !!eventId && !!appliedEventIds.get(workspaceId)?.has(eventId);
+}
+
+function markApplied(workspaceId: string, eventId?: string) {
+  if (!eventId) {
+    return;
+  }
+  let ids = appliedEventIds.get(workspaceId);
+  if (ids) {
+    // Map도 추가 순서를 유지하므로 다시 넣어 가장 최근 사용으로 갱신
+    appliedEventIds.delete(workspaceId);
+  } else {
+    ids = new Set<string>();
+  }
+  appliedEventIds.set(workspaceId, ids);
+  if (appliedEventIds.size > MAX_TRACKED_WORKSPACES) {
+    appliedEventIds.delete(appliedEventIds.keys().next().value as string);
+  }
+  ids.add(eventId);
+  // Set은 추가 순서를 유지하므로 가장 오래된 ID부터 제거
+  if (ids.size > RECENT_EVENT_LIMIT) {
+    ids.delete(ids.values().next().value as string);
+  }
+}
+
+// Spring 서버가 짧은 시간 동안 모은 이벤트를 순서대로 한 번에 전송
+router.post("/batch", (req: Request, res: Response) => {
+  console.log("apply event batch start", new Date().toISOString());
+
+  const { workspaceId } = req.params;
+  const events = req.body?.events as BatchEvent[];
+
+  if (!workspaceId || typeof workspaceId !== "string") {
+    console.error("Invalid workspace Id", new Date().toISOString());
+    return res.status(400).json({ message: "Invalid workspace Id" });
+  }
+  if (!Array.isArray(events)) {
+    console.error("Invalid events", new Date().toISOString());
+    return res.status(400).json({ message: "Invalid events" });
+  }
+
+  // 클라이언트에는 하나의 업데이트로 전달되도록 한 트랜잭션에서 반영
+  const failed: number[] = [];
+  let duplicated = 0;
+  const doc = getYDocByRoom(workspaceId);
+  doc.transact(() => {
+    events.forEach((event, index) => {
+      if (isApplied(workspaceId, event?.id)) {
+        duplicated++;
+        return;
+      }
+      try {
+        // 검증을 통과한 이벤트만 반영해 실패한 이벤트가 문서에 일부만 남지 않도록 함
+        validateEvent(event);
+        applyEvent(workspaceId, event);
+        markApplied(workspaceId, event?.id);
+      } catch (error) {
+        console.error(`apply ${event?.type} event failed`, error);
+        failed.push(index);
+        resetPending(workspaceId, event);
+      }
+    });
+  });
+
+  console.log(
+    `apply event batch success (${events.length} events, ${duplicated} duplicated, ${failed.length} failed)`,
+    new Date().toISOString(),
+  );
+  res.status(200).json({ status: "ok", failed });
+});
+
+// Yjs 트랜잭션은 롤백되지 않으므로 반영 중 예외가 날 수 있는 입력은 쓰기 전에 모두 걸러냄
+function validateEvent(event: BatchEvent) {
+  const payload = event?.payload;
+  const hasNodeId = event?.nodeId !== null && event?.nodeId !== undefined;
+
+  switch (event?.type) {
+    case "NODE":
+      if (!isValidNodePayload(payload) || payload.data === null) {
+        throw new Error("Invalid node payload");
+      }
+      return;
+    case "TECH":
+      if (!hasNodeId || !Array.isArray(payload?.techs) || !payload.techs.every(isObject)) {
+        throw new Error("Invalid techs data");
+      }
+      return;
+    case "CUSTOM_TECH":
+      if (!hasNodeId || !isObject(payload) || !payload.id || !payload.name) {
+        throw new Error("Invalid tech data - id and name are required");
+      }
+      return;
+    case "CANDIDATE":
+      if (!hasNodeId || !Array.isArray(payload?.candidates) || !payload.candidates.every(isObject)) {
+        throw new Error("Invalid candidates data");
+      }
+      return;
+    case "TECH_RESET":
+    case "CANDIDATE_RESET":
+      if (!hasNodeId) {
+        throw new Error("Invalid params");
+      }
+      return;
+    default:
+      throw new Error(`Unknown event type: ${event?.type}`);
+  }
+}
+
+function isObject(value: unknown) {
+  return typeof value === "object" && value !== null;
+}
+
+function applyEvent(workspaceId: string, event: BatchEvent) {
+  const nodeId = String(event.nodeId);
+
+  switch (event.type) {
+    case "NODE":
+      applyNodeCreation(workspaceId, event.payload);
+      return;
+    case "TECH":
+      applyTechRecommendations(workspaceId, nodeId, event.payload.techs, event.payload.comparison);
+      return;
+    case "CUSTOM_TECH":
+      applyCustomTech(workspaceId, nodeId, event.payload);
+      return;
+    case "CANDIDATE":
+      applyCandidates(workspaceId, nodeId, event.payload.candidates);
+      return;
+    // 추론 실패 시 pending 해제 (결과 이벤트와 같은 순서로 반영)
+    case "TECH_RESET":
+      resetTechPending(workspaceId, nodeId);
+      return;
+    case "CANDIDATE_RESET":
+      resetCandidatePending(workspaceId, nodeId);
+      return;
+    default:
+      throw new Error(`Unknown event type: ${event?.type}`);
+  }
+}
+
+// 실패한 이벤트의 pending 해제 (단건 API의 fallback과 동일)
+function resetPending(workspaceId: string, event: BatchEvent) {
+  try {
+    if (event?.type === "TECH" || event?.type === "CUSTOM_TECH") {
+      resetTechPending(workspaceId, String(event.nodeId));
+    } else if (event?.type === "CANDIDATE") {
+      resetCandidatePending(workspaceId, String(event.nodeId));
+    }
+  } catch (fallbackError) {
+    console.error("fallback pending reset failed", fallbackError);
+  }
+}
+
+export default router;
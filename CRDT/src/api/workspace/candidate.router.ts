@@ -14,6 +14,38 @@ export interface Candidate {
 }
 
 const router: Router = Router({ mergeParams: true });
+
+// 후보 노드 추가 반영 (단건 API와 배치 API에서 공통 사용)
+export function applyCandidates(workspaceId: string, nodeId: string, candidates: Partial<Candidate>[]) {
+  const doc = getYDocByRoom(workspaceId);
+  doc.transact(() => {
+    const nodeCandidates = doc.getMap("nodeCandidates");
+
+    const newCandidates = candidates.map((c) => ({
+      ...c,
+      taskType: null,
+      selected: false,
+    })) as Candidate[];
+
+    // 기존 배열에 새 배열 병합
+    const currentCandidates = (nodeCandidates.get(nodeId) as Candidate[]) ?? [];
+    const mergedCandidates = [...currentCandidates, ...newCandidates];
+    nodeCandidates.set(nodeId, mergedCandidates);
+
+    const nodeCandidatesPending = doc.getMap("nodeCandidatesPending");
+    nodeCandidatesPending.set(nodeId, false);
+  });
+}
+
+// 후보 생성 pending 해제
+export function resetCandidatePending(workspaceId: string, nodeId: string) {
+  const doc = getYDocByRoom(workspaceId);
+  doc.transact(() => {
+    const nodeCandidatesPending = doc.getMap("nodeCandidatesPending");
+    nodeCandidatesPending.set(nodeId, false);
+  });
+}
+
 router.post("/:nodeId/candidate", (req: Request, res: Response) => {
   console.log("create candidates start", new Date().toISOString());
   console.log("req.body:", JSON.stringify(req.body, null, 2));
@@ -39,26 +71,8 @@ router.post("/:nodeId/candidate", (req: Request, res: Response) => {
 
   const candidates: Partial<Candidate>[] = body.candidates;
 
-  const doc = getYDocByRoom(workspaceId);
-
   try {
-    doc.transact(() => {
-      const nodeCandidates = doc.getMap("nodeCandidates");
-
-      const newCandidates = candidates.map((c) => ({
-        ...c,
-        taskType: null,
-        selected: false,
-      })) as Candidate[];
-
-      // 기존 배열에 새 배열 병합
-      const currentCandidates = (nodeCandidates.get(nodeId) as Candidate[]) ?? [];
-      const mergedCandidates = [...currentCandidates, ...newCandidates];
-      nodeCandidates.set(nodeId, mergedCandidates);
-
-      const nodeCandidatesPending = doc.getMap("nodeCandidatesPending");
-      nodeCandidatesPending.set(nodeId, false);
-    });
+    applyCandidates(workspaceId, nodeId, candidates);
 
     console.log("create candidates success", new Date().toISOString());
     res.status(200).json({ status: "ok" });
@@ -67,10 +81,7 @@ router.post("/:nodeId/candidate", (req: Request, res: Response) => {
 
     // Fallback: pending 해제
     try {
-      doc.transact(() => {
-        const nodeCandidatesPending = doc.getMap("nodeCandidatesPending");
-        nodeCandidatesPending.set(nodeId, false);
-      });
+      resetCandidatePending(workspaceId, nodeId);
     } catch (fallbackError) {
       console.error("fallback pending reset failed", fallbackError);
     }
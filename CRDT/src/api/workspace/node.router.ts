@@ -7,23 +7,8 @@ import { getYDocByRoom } from "../../yjs/ydoc-gateway";
 
 const router: Router = Router({ mergeParams: true });
 
-router.post("/", (req: Request, res: Response) => {
-  console.log("create nodes start", new Date().toISOString());
-  const { workspaceId } = req.params;
-  const body = req.body;
-
-  console.log({ "node payload": body });
-
-  if (!workspaceId || typeof workspaceId !== "string") {
-    console.error("Invalid workspace Id", new Date().toLocaleDateString());
-    return res.status(400).json({ message: "Invalid workspace Id" });
-  }
-  if (!isValidNodePayload(body)) {
-    console.error("Invalid node payload", new Date().toLocaleDateString());
-    return res.status(400).json({ message: "Invalid node payload" });
-  }
-
-  const node: IncomingNodePayload = body;
+// 노드 생성 반영 (단건 API와 배치 API에서 공통 사용)
+export function applyNodeCreation(workspaceId: string, node: IncomingNodePayload) {
   const doc = getYDocByRoom(workspaceId);
 
   doc.transact(() => {
@@ -67,6 +52,25 @@ router.post("/", (req: Request, res: Response) => {
       nodeCreatingPending.set(node.previewNodeId, false);
     }
   });
+}
+
+router.post("/", (req: Request, res: Response) => {
+  console.log("create nodes start", new Date().toISOString());
+  const { workspaceId } = req.params;
+  const body = req.body;
+
+  console.log({ "node payload": body });
+
+  if (!workspaceId || typeof workspaceId !== "string") {
+    console.error("Invalid workspace Id", new Date().toLocaleDateString());
+    return res.status(400).json({ message: "Invalid workspace Id" });
+  }
+  if (!isValidNodePayload(body)) {
+    console.error("Invalid node payload", new Date().toLocaleDateString());
+    return res.status(400).json({ message: "Invalid node payload" });
+  }
+
+  applyNodeCreation(workspaceId, body);
 
   console.log("create nodes success", new Date().toISOString());
   res.status(200).json({ status: "ok" });
@@ -14,6 +14,77 @@ export interface TechRecommendation {
 
 const router: Router = Router({ mergeParams: true });
 
+// AI 추천 기술 전체 교체 반영 (단건 API와 배치 API에서 공통 사용)
+export function applyTechRecommendations(
+  workspaceId: string,
+  nodeId: string,
+  techs: TechRecommendation[],
+  comparison?: string,
+) {
+  const doc = getYDocByRoom(workspaceId);
+  doc.transact(() => {
+    const nodeTechRecommendations = doc.getMap("nodeTechRecommendations");
+
+    // 각 tech에 selected: false 추가
+    const techsWithSelected = techs.map((tech) => ({
+      ...tech,
+      selected: tech.selected ?? false,
+    }));
+
+    // 일반 배열로 전체 교체 (Y.Array는 Y.Map에 직접 set 불가)
+    nodeTechRecommendations.set(nodeId, techsWithSelected);
+
+    // comparison 저장 (신규)
+    if (comparison) {
+      const nodeTechComparisons = doc.getMap("nodeTechComparisons");
+      nodeTechComparisons.set(nodeId, comparison);
+    }
+
+    // pending 상태 해제
+    const techsPending = doc.getMap("nodeTechsPending");
+    techsPending.set(nodeId, false);
+  });
+}
+
+// 커스텀 기술 1개 추가 반영 (단건 API와 배치 API에서 공통 사용)
+export function applyCustomTech(workspaceId: string, nodeId: string, tech: TechRecommendation) {
+  const doc = getYDocByRoom(workspaceId);
+  doc.transact(() => {
+    const nodeTechRecommendations = doc.getMap("nodeTechRecommendations");
+
+    // 기존 배열 가져오기 (없으면 빈 배열)
+    const existingTechs = (nodeTechRecommendations.get(nodeId) as TechRecommendation[]) || [];
+
+    // 기존 배열에 1개 추가 (기본값 채워서 저장)
+    const customTech: TechRecommendation = {
+      id: tech.id,
+      name: tech.name,
+      advantage: tech.advantage ?? "",
+      disAdvantage: tech.disAdvantage ?? "",
+      description: tech.description ?? "",
+      ref: tech.ref ?? "",
+      recommendScore: tech.recommendScore ?? -1,
+      selected: tech.selected ?? false,
+    };
+
+    // 일반 배열로 저장 (Y.Array는 Y.Map에 직접 set 불가)
+    nodeTechRecommendations.set(nodeId, [...existingTechs, customTech]);
+
+    // pending 상태 해제
+    const techsPending = doc.getMap("nodeTechsPending");
+    techsPending.set(nodeId, false);
+  });
+}
+
+// 기술 추천 pending 해제
+export function resetTechPending(workspaceId: string, nodeId: string) {
+  const doc = getYDocByRoom(workspaceId);
+  doc.transact(() => {
+    const techsPending = doc.getMap("nodeTechsPending");
+    techsPending.set(nodeId, false);
+  });
+}
+
 // AI 추천 - 전체 교체 API
 router.post("/:nodeId/tech-stacks", (req: Request, res: Response) => {
   console.log("create tech-stacks start", new Date().toISOString());
@@ -43,31 +114,8 @@ router.post("/:nodeId/tech-stacks", (req: Request, res: Response) => {
     });
   }
 
-  const doc = getYDocByRoom(workspaceId as string);
-
   try {
-    doc.transact(() => {
-      const nodeTechRecommendations = doc.getMap("nodeTechRecommendations");
-
-      // 각 tech에 selected: false 추가
-      const techsWithSelected = techs.map((tech) => ({
-        ...tech,
-        selected: tech.selected ?? false,
-      }));
-
-      // 일반 배열로 전체 교체 (Y.Array는 Y.Map에 직접 set 불가)
-      nodeTechRecommendations.set(nodeId, techsWithSelected);
-
-      // comparison 저장 (신규)
-      if (comparison) {
-        const nodeTechComparisons = doc.getMap("nodeTechComparisons");
-        nodeTechComparisons.set(nodeId, comparison);
-      }
-
-      // pending 상태 해제
-      const techsPending = doc.getMap("nodeTechsPending");
-      techsPending.set(nodeId, false);
-    });
+    applyTechRecommendations(workspaceId as string, nodeId, techs, comparison);
 
     console.log("create tech-stacks success", new Date().toISOString());
     res.status(200).json({ status: "ok" });
@@ -76,10 +124,7 @@ router.post("/:nodeId/tech-stacks", (req: Request, res: Response) => {
 
     // Fallback: pending 해제
     try {
-      doc.transact(() => {
-        const techsPending = doc.getMap("nodeTechsPending");
-        techsPending.set(nodeId, false);
-      });
+      resetTechPending(workspaceId as string, nodeId);
     } catch (fallbackError) {
       console.error("fallback pending reset failed", fallbackError);
     }
@@ -118,34 +163,8 @@ router.post("/:nodeId/custom-tech-stacks", (req: Request, res: Response) => {
     });
   }
 
-  const doc = getYDocByRoom(workspaceId as string);
-
   try {
-    doc.transact(() => {
-      const nodeTechRecommendations = doc.getMap("nodeTechRecommendations");
-
-      // 기존 배열 가져오기 (없으면 빈 배열)
-      const existingTechs = (nodeTechRecommendations.get(nodeId) as TechRecommendation[]) || [];
-
-      // 기존 배열에 1개 추가 (기본값 채워서 저장)
-      const customTech: TechRecommendation = {
-        id: tech.id,
-        name: tech.name,
-        advantage: tech.advantage ?? "",
-        disAdvantage: tech.disAdvantage ?? "",
-        description: tech.description ?? "",
-        ref: tech.ref ?? "",
-        recommendScore: tech.recommendScore ?? -1,
-        selected: tech.selected ?? false,
-      };
-
-      // 일반 배열로 저장 (Y.Array는 Y.Map에 직접 set 불가)
-      nodeTechRecommendations.set(nodeId, [...existingTechs, customTech]);
-
-      // pending 상태 해제
-      const techsPending = doc.getMap("nodeTechsPending");
-      techsPending.set(nodeId, false);
-    });
+    applyCustomTech(workspaceId as string, nodeId, tech);
 
     console.log("add custom tech-stack success", new Date().toISOString());
     res.status(200).json({ status: "ok" });
@@ -154,10 +173,7 @@ router.post("/:nodeId/custom-tech-stacks", (req: Request, res: Response) => {
 
     // Fallback: pending 해제
     try {
-      doc.transact(() => {
-        const techsPending = doc.getMap("nodeTechsPending");
-        techsPending.set(nodeId, false);
-      });
+      resetTechPending(workspaceId as string, nodeId);
     } catch (fallbackError) {
       console.error("fallback pending reset failed", fallbackError);
     }
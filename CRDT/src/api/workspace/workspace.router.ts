@@ -1,11 +1,13 @@
 import { Router } from "express";
 
+import batchRouter from "./batch.router";
 import nodeRouter from "./node.router";
 import techRouter from "./tech.router";
 import candidateRouter from "./candidate.router";
 
 const workspaceRouter: Router = Router({ mergeParams: true });
 
+workspaceRouter.use(batchRouter);
 workspaceRouter.use(nodeRouter);
 workspaceRouter.use(techRouter);
 workspaceRouter.use(candidateRouter);
@@ -14,7 +14,8 @@ export function startServer() {
   console.log(`WebSocket 서버 시작 : ${PORT}`);
 
   const app = express();
-  app.use(express.json());
+  // Spring 서버의 이벤트 배치(최대 200건)가 기본 한도(100kb)를 넘지 않도록 여유를 둠
+  app.use(express.json({ limit: "5mb" }));
 
   // REST 라우터 연결
   app.use("/internal", router);
@@ -10,6 +10,7 @@ class Node(Base, TimestampMixin):
 
     id = Column(BigInteger, primary_key=True, index=True)
     member_id = Column(BigInteger, ForeignKey("member.id"))
+    workspace_id = Column(BigInteger)  # 소속 워크스페이스 (조회용 비정규화 컬럼)
     node_type = Column(Enum(NodeType), nullable=False)  # Discriminator
     identifier = Column(String(50))
     name = Column(String(30))
@@ -100,6 +100,7 @@ class NodeService:
             difficulty=node_difficulty,
             x_pos=request.x_pos,
             y_pos=request.y_pos,
+            workspace_id=request.workspace_id,
         )
 
         # 6. node_tree 관계 저장 (부모-자식 관계)
@@ -139,6 +140,7 @@ class NodeService:
         difficulty: int = None,
         x_pos: float = 0.0,
         y_pos: float = 0.0,
+        workspace_id: int = None,
     ) -> Node:
         """노드 타입에 따른 노드 생성 (Joined Table Inheritance)"""
         logger.info(
@@ -196,6 +198,8 @@ class NodeService:
                 y_pos=y_pos,
             )
 
+        node.workspace_id = workspace_id
+
         db.add(node)
         db.flush()  # ID 생성을 위해 flush
 
@@ -0,0 +1,30 @@
+package com.ssafy.projectree.domain.ai.api.controller;
+
+import com.ssafy.projectree.domain.ai.api.dto.AiJobReadDto;
+import com.ssafy.projectree.domain.ai.job.AiJobService;
+import com.ssafy.projectree.global.api.code.SuccessCode;
+import com.ssafy.projectree.global.api.response.CommonResponse;
+import com.ssafy.projectree.global.docs.AiJobDocsController;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AiJobController implements AiJobDocsController {
+    private final AiJobService aiJobService;
+
+    @Override
+    @GetMapping("/ai-jobs/{job-id}")
+    public CommonResponse<AiJobReadDto.Response> getJob(@PathVariable(name = "job-id") String jobId) {
+        return CommonResponse.success(SuccessCode.SUCCESS, AiJobReadDto.Response.from(aiJobService.get(jobId)));
+    }
+
+    @Override
+    @DeleteMapping("/ai-jobs/{job-id}")
+    public CommonResponse<AiJobReadDto.Response> cancelJob(@PathVariable(name = "job-id") String jobId) {
+        return CommonResponse.success(SuccessCode.SUCCESS, AiJobReadDto.Response.from(aiJobService.cancel(jobId)));
+    }
+}
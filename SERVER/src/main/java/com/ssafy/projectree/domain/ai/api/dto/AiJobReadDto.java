@@ -0,0 +1,52 @@
+package com.ssafy.projectree.domain.ai.api.dto;
+
+import com.ssafy.projectree.domain.ai.job.AiJob;
+import com.ssafy.projectree.domain.ai.job.AiJobStatus;
+import com.ssafy.projectree.domain.ai.lock.LockType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class AiJobReadDto {
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(name = "AiJobReadDto.Response", description = "AI 작업 상태 응답")
+    public static class Response {
+        @Schema(description = "작업 ID")
+        private String jobId;
+        @Schema(description = "작업 종류", example = "NODE")
+        private LockType type;
+        @Schema(description = "대상 ID (노드 생성은 후보 ID, 후보 생성은 부모 노드 ID, 기술 추천은 노드 ID)")
+        private Long targetId;
+        @Schema(description = "작업 상태", example = "RUNNING")
+        private AiJobStatus status;
+        @Schema(description = "완료 시 결과 (기존 동기 API의 data와 같음)")
+        private Object result;
+        @Schema(description = "실패 시 에러 코드")
+        private String errorCode;
+        @Schema(description = "실패 시 메시지")
+        private String message;
+        private LocalDateTime createdAt;
+        private LocalDateTime finishedAt;
+
+        public static Response from(AiJob job) {
+            return Response.builder()
+                    .jobId(job.getId())
+                    .type(job.getType())
+                    .targetId(job.getTargetId())
+                    .status(job.getStatus())
+                    .result(job.getResult())
+                    .errorCode(job.getErrorCode() != null ? job.getErrorCode().name() : null)
+                    .message(job.getMessage())
+                    .createdAt(job.getCreatedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+}
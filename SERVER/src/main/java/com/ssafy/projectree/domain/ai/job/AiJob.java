@@ -0,0 +1,79 @@
+package com.ssafy.projectree.domain.ai.job;
+
+import com.ssafy.projectree.domain.ai.lock.LockType;
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 비동기 AI 작업의 상태
+ * 상태는 QUEUED → RUNNING → (SUCCEEDED | FAILED) 순으로만 바뀌며, 실행되기 전(QUEUED)에만 CANCELLED가 될 수 있다.
+ * 실행 중인 추론은 중단해도 추론 서버의 저장이나 pending 해제 같은 후처리를 되돌릴 수 없으므로 끝까지 실행한다.
+ */
+@Getter
+public class AiJob {
+
+    private final String id;
+    private final LockType type;
+    private final Long targetId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicReference<AiJobStatus> status = new AtomicReference<>(AiJobStatus.QUEUED);
+
+    private volatile Object result;
+    private volatile ErrorCode errorCode;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+    private volatile Future<?> future;
+
+    public AiJob(String id, LockType type, Long targetId) {
+        this.id = id;
+        this.type = type;
+        this.targetId = targetId;
+    }
+
+    public AiJobStatus getStatus() {
+        return status.get();
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    // 취소되지 않았을 때만 실행 상태로 전환
+    boolean start() {
+        return status.compareAndSet(AiJobStatus.QUEUED, AiJobStatus.RUNNING);
+    }
+
+    void succeed(Object result) {
+        this.result = result;
+        finish(AiJobStatus.SUCCEEDED);
+    }
+
+    void fail(ErrorCode errorCode, String message) {
+        this.errorCode = errorCode;
+        this.message = message;
+        finish(AiJobStatus.FAILED);
+    }
+
+    // 대기 중인 작업만 취소되며, 취소되었으면 true
+    boolean cancel() {
+        if (!status.compareAndSet(AiJobStatus.QUEUED, AiJobStatus.CANCELLED)) {
+            return false;
+        }
+        finishedAt = LocalDateTime.now();
+        Future<?> queued = future;
+        if (queued != null) {
+            queued.cancel(false);
+        }
+        return true;
+    }
+
+    private void finish(AiJobStatus finalStatus) {
+        if (status.compareAndSet(AiJobStatus.RUNNING, finalStatus)) {
+            finishedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.ssafy.projectree.domain.ai.job;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.projectree.domain.ai.lock.LockType;
+import com.ssafy.projectree.domain.ai.lock.utils.SingleFlight;
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.exception.BusinessLogicException;
+import com.ssafy.projectree.global.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+/**
+ * AI 추론 요청을 작업으로 받아 inferenceExecutor에서 실행한다.
+ * 요청 스레드는 작업 ID만 받고 바로 반환되며, 결과는 기존과 같이 CRDT 서버로 전달되고
+ * 작업 상태는 retention 동안 조회할 수 있다.
+ * 같은 대상(type + targetId, 본문이 있으면 본문까지)의 작업이 끝나기 전에 들어온 요청은 진행 중인 작업에 합쳐진다.
+ * 실행은 SingleFlight를 거치므로 같은 대상의 동기 요청이 진행 중이면 그 결과를 함께 받는다.
+ */
+@Slf4j
+@Service
+public class AiJobService {
+
+    private final AsyncTaskExecutor inferenceExecutor;
+    private final SingleFlight singleFlight;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, AiJob> jobs;
+
+    // 대상(+ 본문) -> 진행 중인 작업
+    private final ConcurrentHashMap<JobKey, AiJob> activeJobs = new ConcurrentHashMap<>();
+
+    public AiJobService(
+            @Qualifier("inferenceExecutor") AsyncTaskExecutor inferenceExecutor,
+            SingleFlight singleFlight,
+            MeterRegistry meterRegistry,
+            @Value("${ai-job.retention:10m}") Duration retention
+    ) {
+        this.inferenceExecutor = inferenceExecutor;
+        this.singleFlight = singleFlight;
+        this.meterRegistry = meterRegistry;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    /**
+     * 작업을 접수한다. 실행 대기열이 가득 차면 AI_JOB_OVERLOADED_ERROR가 발생한다.
+     * 같은 대상의 작업이 진행 중이면 새로 실행하지 않고 그 작업을 반환한다.
+     */
+    public AiJob submit(LockType type, Long targetId, Callable<?> task) {
+        return submit(type, targetId, null, task);
+    }
+
+    /**
+     * 요청 본문(request)에 따라 결과가 달라지는 작업용. 본문이 같은(equals) 진행 중인 작업에만 합쳐진다.
+     */
+    public AiJob submit(LockType type, Long targetId, Object request, Callable<?> task) {
+        AiJob job = new AiJob(UUID.randomUUID().toString(), type, targetId);
+        JobKey key = new JobKey(type, targetId, request);
+        // 합쳐진 요청이 받은 작업 ID로 바로 조회할 수 있도록 먼저 저장
+        jobs.put(job.getId(), job);
+        AiJob existing;
+        while ((existing = activeJobs.putIfAbsent(key, job)) != null) {
+            if (!existing.getStatus().isFinished()) {
+                jobs.invalidate(job.getId());
+                Counter.builder("ai.request.deduplicated")
+                        .tag("type", type.name())
+                        .tag("mode", "job")
+                        .register(meterRegistry)
+                        .increment();
+                return existing;
+            }
+            // 끝났지만 아직 정리되지 않은 작업에는 합치지 않음
+            activeJobs.remove(key, existing);
+        }
+
+        try {
+            Future<?> future = inferenceExecutor.submit(() -> run(job, key, task));
+            job.attach(future);
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.getId());
+            activeJobs.remove(key, job);
+            throw new BusinessLogicException(ErrorCode.AI_JOB_OVERLOADED_ERROR);
+        }
+        return job;
+    }
+
+    public AiJob get(String jobId) {
+        AiJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new BusinessLogicException(ErrorCode.AI_JOB_NOT_FOUND_ERROR);
+        }
+        return job;
+    }
+
+    /**
+     * 대기 중인 작업을 취소한다. 취소된 작업은 실행되지 않는다.
+     * 이미 실행 중이거나 끝난 작업은 그대로 반환한다. (실행 중인 작업은 성공/실패와 같은 후처리를 거쳐 끝남)
+     */
+    public AiJob cancel(String jobId) {
+        AiJob job = get(jobId);
+        if (job.cancel()) {
+            // 실행되지 않으므로 여기서 대상을 풀어 줌
+            activeJobs.values().remove(job);
+            record(job);
+        }
+        return job;
+    }
+
+    private void run(AiJob job, JobKey key, Callable<?> task) {
+        // 대기 중에 취소된 작업은 cancel에서 정리됨
+        if (!job.start()) {
+            return;
+        }
+        try {
+            job.succeed(singleFlight.execute(job.getType(), String.valueOf(job.getTargetId()), key.request(), task));
+        } catch (CustomException e) {
+            job.fail(e.getErrorCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("AI 작업 실패 - jobId: {}, type: {}, targetId: {}", job.getId(), job.getType(), job.getTargetId(), e);
+            job.fail(ErrorCode.SERVER_ERROR, ErrorCode.SERVER_ERROR.getDefaultMessage());
+        } catch (Error e) {
+            // 작업이 RUNNING으로 남으면 조회하는 쪽이 끝없이 기다리므로 실패로 끝낸 뒤 다시 던짐
+            log.error("AI 작업 실패 - jobId: {}, type: {}, targetId: {}", job.getId(), job.getType(), job.getTargetId(), e);
+            job.fail(ErrorCode.SERVER_ERROR, ErrorCode.SERVER_ERROR.getDefaultMessage());
+            throw e;
+        } finally {
+            record(job);
+            activeJobs.remove(key, job);
+        }
+    }
+
+    private void record(AiJob job) {
+        LocalDateTime finishedAt = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        Timer.builder("ai.job.duration")
+                .tag("type", job.getType().name())
+                .tag("status", job.getStatus().name())
+                .register(meterRegistry)
+                .record(Duration.between(job.getCreatedAt(), finishedAt));
+    }
+
+    private record JobKey(LockType type, Long targetId, Object request) {
+    }
+}
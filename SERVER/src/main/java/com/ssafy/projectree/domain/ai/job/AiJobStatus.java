@@ -0,0 +1,9 @@
+package com.ssafy.projectree.domain.ai.job;
+
+public enum AiJobStatus {
+    QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,89 @@
+package com.ssafy.projectree.domain.ai.lock.utils;
+
+import com.ssafy.projectree.domain.ai.lock.LockType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 대상(type + key)에 대한 AI 요청을 하나로 합친다.
+ * 먼저 들어온 요청만 LockService를 거쳐 실행되고, 실행 중에 들어온 요청은
+ * DUPLICATE_REQUEST_ERROR 대신 같은 결과(또는 같은 예외)를 받는다.
+ * 작업 모드(AiJobService)도 여기를 거쳐 실행되므로 동기 요청과 작업 모드 요청끼리도 합쳐진다.
+ * 요청 본문에 따라 결과가 달라지면(노드 생성의 좌표 등) request를 함께 넘긴다. 본문이 같은 요청끼리만 합쳐지고,
+ * 본문이 다른 요청은 LockService에서 DUPLICATE_REQUEST_ERROR로 거절된다.
+ * 합쳐진 요청 수는 ai.request.deduplicated{type, mode=sync} 메트릭으로 확인할 수 있다.
+ */
+@Component
+public class SingleFlight {
+
+    private final LockService lockService;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(LockService lockService, MeterRegistry meterRegistry) {
+        this.lockService = lockService;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("ai.request.inflight", inFlight, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(LockType type, String key, Callable<T> task) {
+        return execute(type, key, null, task);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(LockType type, String key, Object request, Callable<T> task) {
+        FlightKey flightKey = new FlightKey(type, key, request);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            deduplicatedCounter(type).increment();
+            return (T) await(existing);
+        }
+
+        try {
+            T result = lockService.execute(type, key, task);
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error로 끝나도 기다리는 요청이 풀려나도록 모든 예외로 완료
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Counter deduplicatedCounter(LockType type) {
+        return Counter.builder("ai.request.deduplicated")
+                .tag("type", type.name())
+                .tag("mode", "sync")
+                .register(meterRegistry);
+    }
+
+    // 먼저 실행된 요청의 예외는 그대로 전달
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // request는 equals로 비교 (null이면 대상만으로 합침)
+    private record FlightKey(LockType type, String key, Object request) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy.projectree.domain.file.enums;
+
+public enum FileStatus {
+    // S3 업로드 대기 중 (path 없음)
+    PENDING,
+    UPLOADED,
+    // 아웃박스 재시도 횟수를 넘겨 업로드되지 않음
+    FAILED
+}
@@ -1,5 +1,6 @@
 package com.ssafy.projectree.domain.file.model.entity;
 
+import com.ssafy.projectree.domain.file.enums.FileStatus;
 import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
 import com.ssafy.projectree.global.model.entity.BaseEntity;
 import jakarta.persistence.*;
@@ -31,6 +32,11 @@ public class FileProperty extends BaseEntity {
 	private String savedFileName;
 	private long size;
 
+	// S3 업로드가 끝나야 UPLOADED가 되고 path가 채워짐 (기존 행은 업로드된 것으로 봄)
+	@Enumerated(EnumType.STRING)
+	@Column(length = 10, columnDefinition = "VARCHAR(10) DEFAULT 'UPLOADED'")
+	private FileStatus status;
+
 	@ManyToOne
 	@JoinColumn(name = "workspace_id", nullable = false)
 	private Workspace workspace;
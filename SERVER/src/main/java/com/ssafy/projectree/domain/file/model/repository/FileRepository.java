@@ -1,15 +1,45 @@
 package com.ssafy.projectree.domain.file.model.repository;
 
+import com.ssafy.projectree.domain.file.enums.FileStatus;
 import com.ssafy.projectree.domain.file.model.entity.FileProperty;
 import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface FileRepository extends JpaRepository<FileProperty, Long> {
-    List<FileProperty> getFilesByWorkspace(Workspace workspace);
+    List<FileProperty> getFilesByWorkspaceAndStatus(Workspace workspace, FileStatus status);
 
-    Page<FileProperty> findByWorkspace(Workspace workspace, Pageable pageable);
+    Page<FileProperty> findByWorkspaceAndStatus(Workspace workspace, FileStatus status, Pageable pageable);
+
+    Optional<FileProperty> findBySavedFileName(String savedFileName);
+
+    // 삭제된 파일이면 0을 반환
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE FileProperty f
+            SET f.status = com.ssafy.projectree.domain.file.enums.FileStatus.UPLOADED,
+                f.path = :path
+            WHERE f.id = :id
+            AND f.deletedAt IS NULL
+            """)
+    int markUploaded(@Param("id") Long id, @Param("path") String path);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE FileProperty f
+            SET f.status = com.ssafy.projectree.domain.file.enums.FileStatus.FAILED
+            WHERE f.id = :id
+            AND f.status = com.ssafy.projectree.domain.file.enums.FileStatus.PENDING
+            """)
+    void markFailed(@Param("id") Long id);
 }
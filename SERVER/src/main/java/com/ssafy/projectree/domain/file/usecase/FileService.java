@@ -1,51 +1,178 @@
 package com.ssafy.projectree.domain.file.usecase;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.projectree.domain.file.api.dto.FileReadDto;
 import com.ssafy.projectree.domain.file.api.dto.FileUploadDto;
+import com.ssafy.projectree.domain.file.enums.FileStatus;
 import com.ssafy.projectree.domain.file.model.entity.FileProperty;
 import com.ssafy.projectree.domain.file.model.repository.FileRepository;
 import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
 import com.ssafy.projectree.global.api.code.ErrorCode;
 import com.ssafy.projectree.global.exception.BusinessLogicException;
-import lombok.RequiredArgsConstructor;
+import com.ssafy.projectree.global.outbox.OutboxEventType;
+import com.ssafy.projectree.global.outbox.OutboxHandler;
+import com.ssafy.projectree.global.outbox.OutboxService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class FileService {
+public class FileService implements OutboxHandler {
 
     private final S3Service s3Service;
     private final FileRepository fileRepository;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+    private final Executor outboxExecutor;
 
+    // S3 업로드 전까지 파일을 보관하는 디렉터리 (여러 인스턴스라면 공유 볼륨이어야 함)
+    @Value("${outbox.file-spool-dir:${java.io.tmpdir}/projectree-upload}")
+    private Path spoolDir;
 
+    public FileService(
+            S3Service s3Service,
+            FileRepository fileRepository,
+            OutboxService outboxService,
+            ObjectMapper objectMapper,
+            @Qualifier("outboxExecutor") Executor outboxExecutor
+    ) {
+        this.s3Service = s3Service;
+        this.fileRepository = fileRepository;
+        this.outboxService = outboxService;
+        this.objectMapper = objectMapper;
+        this.outboxExecutor = outboxExecutor;
+    }
+
+    // 보관 디렉터리를 쓸 수 없으면 업로드가 모두 실패하므로 시작 시 확인
+    @PostConstruct
+    void checkSpoolDir() throws IOException {
+        Files.createDirectories(spoolDir);
+        if (!Files.isWritable(spoolDir)) {
+            throw new IllegalStateException("File spool directory is not writable: " + spoolDir);
+        }
+        if (spoolDir.toAbsolutePath().startsWith(Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath())) {
+            log.warn("File spool directory {} is local to this instance, set outbox.file-spool-dir to a shared volume when running multiple instances", spoolDir);
+        }
+    }
+
+    /**
+     * 파일을 로컬 임시 디렉터리에 저장하고 S3 업로드는 아웃박스에 예약한다.
+     * 트랜잭션 안에서는 DB 작업만 하므로 S3가 느려도 커넥션을 오래 붙잡지 않는다.
+     * 파일은 업로드가 끝날 때까지 PENDING으로 저장되어 조회되지 않으며, 업로드가 끝나야 경로(URL)가 채워진다.
+     * 롤백되면 보관한 파일도 함께 삭제한다.
+     */
+    @Transactional
     public FileUploadDto.Response uploadFiles(List<MultipartFile> files, Workspace workspace) throws IOException {
 
+        Files.createDirectories(spoolDir);
+        List<Path> spooledFiles = new ArrayList<>();
+        deleteOnRollback(spooledFiles);
         for (MultipartFile file : files) {
             String savedFileName = createFileName(file.getOriginalFilename());
-            String url = s3Service.uploadFile(file, workspace.getId(), savedFileName);
+            Path spooled = spoolDir.resolve(savedFileName);
+            spooledFiles.add(spooled);
+            file.transferTo(spooled);
 
-            fileRepository.save(FileProperty.builder()
+            FileProperty saved = fileRepository.save(FileProperty.builder()
                     .workspace(workspace)
-                    .path(url)
                     .contentType(file.getContentType())
                     .originFileName(file.getOriginalFilename())
                     .savedFileName(savedFileName)
                     .size(file.getSize())
+                    .status(FileStatus.PENDING)
                     .build()
             );
-
+            outboxService.enqueue(OutboxEventType.FILE_UPLOAD,
+                    new FileUpload(saved.getId(), workspace.getId(), savedFileName, file.getContentType(), spooled.toString()));
         }
         return FileUploadDto.Response.of("파일 업로드에 성공하였습니다.");
     }
 
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.FILE_UPLOAD;
+    }
+
+    /**
+     * 보관한 파일을 S3에 올린 뒤 파일을 UPLOADED로 바꾼다.
+     * 업로드 전에 삭제된 파일은 올리지 않고, 업로드 도중 삭제되었으면 올린 객체를 지운다.
+     */
+    @Override
+    public void handle(String payload) throws Exception {
+        FileUpload upload = objectMapper.readValue(payload, FileUpload.class);
+        Path spooled = Path.of(upload.spoolPath());
+
+        Optional<FileProperty> file = findFile(upload);
+        if (file.isEmpty()) {
+            Files.deleteIfExists(spooled);
+            return;
+        }
+
+        if (Files.exists(spooled)) {
+            s3Service.uploadFile(spooled, upload.workspaceId(), upload.savedFileName(), upload.contentType());
+        } else if (!s3Service.exists(upload.workspaceId(), upload.savedFileName())) {
+            // 업로드 후 완료 표시 전에 중단된 경우에만 보관 파일이 없을 수 있음
+            throw new IllegalStateException("Spooled file is missing: " + spooled);
+        }
+
+        String url = s3Service.getUrl(upload.workspaceId(), upload.savedFileName());
+        if (fileRepository.markUploaded(file.get().getId(), url) == 0) {
+            s3Service.delete(upload.workspaceId(), upload.savedFileName());
+        }
+        Files.deleteIfExists(spooled);
+    }
+
+    // S3 업로드는 아웃박스 실행기에서 진행하여 전달 루프를 막지 않고, delivery-timeout으로 취소될 수 있게 한다.
+    @Override
+    public CompletableFuture<Void> handleAsync(String payload) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                handle(payload);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, outboxExecutor);
+    }
+
+    // 재시도를 모두 실패한 파일은 FAILED로 남기고 보관 파일을 삭제
+    @Override
+    public void onFailed(String payload) {
+        try {
+            FileUpload upload = objectMapper.readValue(payload, FileUpload.class);
+            findFile(upload).ifPresent(file -> fileRepository.markFailed(file.getId()));
+            Files.deleteIfExists(Path.of(upload.spoolPath()));
+        } catch (IOException e) {
+            log.warn("Failed to clean up failed file upload {}", payload, e);
+        }
+    }
+
+    // 파일 ID가 없는 이전 이벤트는 저장 파일명으로 찾음 (삭제된 파일은 조회되지 않음)
+    private Optional<FileProperty> findFile(FileUpload upload) {
+        return upload.fileId() != null
+                ? fileRepository.findById(upload.fileId())
+                : fileRepository.findBySavedFileName(upload.savedFileName());
+    }
+
     public List<FileReadDto.Response> findByWorkspaceId(Workspace workspace) {
-        return fileRepository.getFilesByWorkspace(workspace)
+        return fileRepository.getFilesByWorkspaceAndStatus(workspace, FileStatus.UPLOADED)
                 .stream()
                 .map(file -> FileReadDto.Response.builder()
                         .id(file.getId())
@@ -57,6 +184,25 @@ public class FileService {
                 .toList();
     }
 
+    // 아웃박스 이벤트가 롤백되면 업로드되지 않을 파일이므로 삭제
+    private void deleteOnRollback(List<Path> spooledFiles) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                for (Path spooled : spooledFiles) {
+                    try {
+                        Files.deleteIfExists(spooled);
+                    } catch (IOException e) {
+                        log.warn("Failed to delete spooled file {}", spooled, e);
+                    }
+                }
+            }
+        });
+    }
+
     private String createFileName(String originFileName) {
         String ext = originFileName.substring(originFileName.lastIndexOf("."));
         return System.currentTimeMillis() + "_" + UUID.randomUUID() + ext;
@@ -67,8 +213,11 @@ public class FileService {
         FileProperty file = fileRepository.findById(id)
                 .orElseThrow(() -> new BusinessLogicException(ErrorCode.FILE_NOT_FOUND));
 
-        // S3 삭제 후 DB 삭제
+        // S3 삭제 후 DB 삭제 (업로드 전이면 아웃박스가 업로드를 건너뜀)
         s3Service.delete(file.getWorkspace().getId(), file.getSavedFileName());
         fileRepository.delete(file);
     }
+
+    public record FileUpload(Long fileId, Long workspaceId, String savedFileName, String contentType, String spoolPath) {
+    }
 }
@@ -11,6 +11,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 @Slf4j
 @Service
@@ -44,9 +45,31 @@ public class S3Service {
         return amazonS3Client.getUrl(bucket, path).toString();
     }
 
+    /**
+     * 로컬에 저장해 둔 파일을 S3에 업로드 (아웃박스 전달용, 같은 경로로 다시 올려도 결과가 같음)
+     */
+    public void uploadFile(Path source, Long workspaceId, String savedFileName, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        amazonS3Client.putObject(new PutObjectRequest(bucket, path(workspaceId, savedFileName), source.toFile())
+                .withMetadata(metadata));
+    }
+
+    public boolean exists(Long workspaceId, String savedFileName) {
+        return amazonS3Client.doesObjectExist(bucket, path(workspaceId, savedFileName));
+    }
+
+    // 업로드 전에도 저장될 URL을 알 수 있음 (네트워크 호출 없음)
+    public String getUrl(Long workspaceId, String savedFileName) {
+        return amazonS3Client.getUrl(bucket, path(workspaceId, savedFileName)).toString();
+    }
+
     public void delete(Long workspaceId, String savedFileName) {
-        String path = "workspace/" + workspaceId + "/" + savedFileName;
-        amazonS3Client.deleteObject(bucket, path);
+        amazonS3Client.deleteObject(bucket, path(workspaceId, savedFileName));
+    }
+
+    private String path(Long workspaceId, String savedFileName) {
+        return "workspace/" + workspaceId + "/" + savedFileName;
     }
 
 }
@@ -1,32 +1,74 @@
 package com.ssafy.projectree.domain.member.usecase;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.projectree.global.mail.MailQueue;
+import com.ssafy.projectree.global.outbox.OutboxEventType;
+import com.ssafy.projectree.global.outbox.OutboxHandler;
+import com.ssafy.projectree.global.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
-public class EmailService {
+public class EmailService implements OutboxHandler {
 
-    private final JavaMailSender mailSender;
+    private final MailQueue mailQueue;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
     private String MAIL_CONTENT = "[ProjecTree] 초대 링크: ";
     private String MAIL_SUBJECT = "[ProjecTree] 워크스페이스에 초대되었습니다.";
 
+    /**
+     * workspace 초대 이메일 발송 예약
+     * 현재 트랜잭션이 커밋된 뒤 아웃박스를 통해 발송된다. (롤백되면 발송되지 않음)
+     * @param to
+     * @param text
+     */
+    public void sendInviteEmail(String to, String text) {
+        outboxService.enqueue(OutboxEventType.INVITE_EMAIL, new InviteEmail(to, text));
+    }
+
     /**
      * workspace 초대 이메일 전송
+     * 메일 큐에 넣고 바로 반환하며, 발송 결과는 반환된 future로 확인한다.
      * @param to
      * @param text
      */
-    public void sendEmail(String to, String text) {
+    public CompletableFuture<Void> sendEmail(String to, String text) {
 
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(to);
         message.setSubject(MAIL_SUBJECT);
         message.setText(MAIL_CONTENT + text);
 
-        mailSender.send(message);
+        return mailQueue.submit(message);
 
     }
 
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.INVITE_EMAIL;
+    }
+
+    @Override
+    public void handle(String payload) throws Exception {
+        handleAsync(payload).get();
+    }
+
+    // 선점된 초대 메일을 모두 큐에 넣어 같은 SMTP 연결로 묶어 보낸다.
+    @Override
+    public CompletableFuture<Void> handleAsync(String payload) {
+        try {
+            InviteEmail inviteEmail = objectMapper.readValue(payload, InviteEmail.class);
+            return sendEmail(inviteEmail.to(), inviteEmail.text());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public record InviteEmail(String to, String text) {
+    }
 }
@@ -1,33 +1,50 @@
 package com.ssafy.projectree.domain.node.api.controller;
 
+import com.ssafy.projectree.domain.ai.api.dto.AiJobReadDto;
+import com.ssafy.projectree.domain.ai.job.AiJobService;
 import com.ssafy.projectree.domain.ai.lock.LockType;
-import com.ssafy.projectree.domain.ai.lock.utils.LockService;
+import com.ssafy.projectree.domain.ai.lock.utils.SingleFlight;
 import com.ssafy.projectree.domain.member.model.entity.Member;
 import com.ssafy.projectree.domain.node.api.dto.CandidateCreateDto;
 import com.ssafy.projectree.domain.node.api.dto.CustomNodeDto;
 import com.ssafy.projectree.domain.node.api.dto.CustomTechCreateDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeChangeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeCreateDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeSubtreeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeTreeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.TechStackRecommendDto;
+import com.ssafy.projectree.domain.node.cache.VersionedNodeTree;
 import com.ssafy.projectree.domain.node.usecase.NodeService;
+import com.ssafy.projectree.domain.workspace.usecase.WorkspaceVersionService;
 import com.ssafy.projectree.global.api.code.SuccessCode;
 import com.ssafy.projectree.global.api.response.CommonResponse;
 import com.ssafy.projectree.global.docs.NodeDocsController;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequiredArgsConstructor
 public class NodeController implements NodeDocsController {
     private final NodeService nodeService;
-    private final LockService lockService;
+    private final SingleFlight singleFlight;
+    private final AiJobService aiJobService;
+    private final WorkspaceVersionService workspaceVersionService;
 
     @GetMapping("/nodes/{node-id}")
     public CommonResponse<NodeReadDto.Response> getNodeDetails(
@@ -37,22 +54,76 @@ public class NodeController implements NodeDocsController {
     }
 
     @GetMapping("/workspaces/{workspace-id}")
-    public CommonResponse<NodeTreeReadDto.Response> getNodeTree(@PathVariable(value = "workspace-id") Long workspaceId) {
-        return CommonResponse.success(SuccessCode.SUCCESS, nodeService.getNodeTree(workspaceId));
+    public CommonResponse<NodeTreeReadDto.Response> getNodeTree(@PathVariable(value = "workspace-id") Long workspaceId,
+                                                               WebRequest webRequest) {
+        // ETag는 캐시된 트리와 함께 저장된 버전으로 만들어 본문과 항상 일치 (클라이언트가 가진 버전과 같으면 304 응답)
+        VersionedNodeTree tree = nodeService.getVersionedNodeTree(workspaceId);
+        if (webRequest.checkNotModified(workspaceVersionService.toETag(workspaceId, tree.version()))) {
+            return null;
+        }
+        return CommonResponse.success(SuccessCode.SUCCESS, tree.tree());
+    }
+
+    @Override
+    @GetMapping(value = "/workspaces/{workspace-id}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void streamNodeTree(@PathVariable(value = "workspace-id") Long workspaceId, WebRequest webRequest,
+                               HttpServletResponse response) throws IOException {
+        // 트리 조회와 같은 캐시와 ETag를 사용하고, 본문만 스트림으로 기록
+        VersionedNodeTree tree = nodeService.getVersionedNodeTree(workspaceId);
+        if (webRequest.checkNotModified(workspaceVersionService.toETag(workspaceId, tree.version()))) {
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        nodeService.writeNodeTree(CommonResponse.success(SuccessCode.SUCCESS, tree.tree()), response.getOutputStream());
+    }
+
+    @GetMapping("/workspaces/{workspace-id}/changes")
+    public CommonResponse<NodeChangeReadDto.Response> getNodeChanges(@PathVariable(value = "workspace-id") Long workspaceId,
+                                                                     @RequestParam(name = "since", required = false) Long since) {
+        return CommonResponse.success(SuccessCode.SUCCESS, nodeService.getNodeChanges(workspaceId, since));
+    }
+
+    @GetMapping("/nodes/{node-id}/subtree")
+    public CommonResponse<NodeSubtreeReadDto.Response> getSubtree(@PathVariable(value = "node-id") Long nodeId,
+                                                                  @RequestParam(name = "depth", defaultValue = "1") int depth,
+                                                                  @RequestParam(name = "cursorDepth", required = false) Integer cursorDepth,
+                                                                  @RequestParam(name = "cursorId", required = false) Long cursorId,
+                                                                  @RequestParam(name = "size", defaultValue = "200") int size) {
+        return CommonResponse.success(SuccessCode.SUCCESS, nodeService.getSubtree(nodeId, depth, cursorDepth, cursorId, size));
     }
 
     @PostMapping("/nodes/{node-id}/candidates/{candidate-id}")
     public CommonResponse<NodeCreateDto.Response> createNode(@PathVariable(name = "candidate-id") Long candidateId,
                                                              @PathVariable(name = "node-id") Long parentId,
                                                              @RequestBody NodeCreateDto.Request request) {
-        return CommonResponse.success(SuccessCode.SUCCESS, lockService.execute(LockType.NODE, String.valueOf(candidateId), () -> nodeService.generateNode(candidateId, parentId, request)));
+        return CommonResponse.success(SuccessCode.SUCCESS, singleFlight.execute(LockType.NODE, String.valueOf(candidateId), request, () -> nodeService.generateNode(candidateId, parentId, request)));
     }
 
     @PostMapping("/nodes/{node-id}/candidates")
     public CommonResponse<CandidateCreateDto.Response> generateCandidates(@PathVariable(name = "node-id") Long parentId
                                                                           ) {
 
-        return CommonResponse.success(SuccessCode.SUCCESS, lockService.execute(LockType.CANDIDATE, String.valueOf(parentId), () -> nodeService.generateCandidate(parentId)));
+        return CommonResponse.success(SuccessCode.SUCCESS, singleFlight.execute(LockType.CANDIDATE, String.valueOf(parentId), () -> nodeService.generateCandidate(parentId)));
+    }
+
+    // 작업 모드: 추론은 inferenceExecutor에서 실행하고 작업 ID를 바로 반환 (결과는 CRDT로 전달)
+    @Override
+    @PostMapping("/nodes/{node-id}/candidates/{candidate-id}/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CommonResponse<AiJobReadDto.Response> submitCreateNode(@PathVariable(name = "candidate-id") Long candidateId,
+                                                                  @PathVariable(name = "node-id") Long parentId,
+                                                                  @RequestBody NodeCreateDto.Request request) {
+        return CommonResponse.success(SuccessCode.SUCCESS, AiJobReadDto.Response.from(
+                aiJobService.submit(LockType.NODE, candidateId, request, () -> nodeService.generateNode(candidateId, parentId, request))));
+    }
+
+    @Override
+    @PostMapping("/nodes/{node-id}/candidates/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CommonResponse<AiJobReadDto.Response> submitGenerateCandidates(@PathVariable(name = "node-id") Long parentId) {
+        return CommonResponse.success(SuccessCode.SUCCESS, AiJobReadDto.Response.from(
+                aiJobService.submit(LockType.CANDIDATE, parentId, () -> nodeService.generateCandidate(parentId))));
     }
 
     @DeleteMapping("/nodes/candidates/{candidate-id}")
@@ -63,7 +134,15 @@ public class NodeController implements NodeDocsController {
 
     @PostMapping("/nodes/{node-id}/tech-stack/recommendation")
     public CommonResponse<TechStackRecommendDto.Response> recommendTechStack(@PathVariable(name = "node-id") Long nodeId) {
-        return CommonResponse.success(SuccessCode.SUCCESS, lockService.execute(LockType.TECH, String.valueOf(nodeId), () -> nodeService.recommendTechStack(nodeId)));
+        return CommonResponse.success(SuccessCode.SUCCESS, singleFlight.execute(LockType.TECH, String.valueOf(nodeId), () -> nodeService.recommendTechStack(nodeId)));
+    }
+
+    @Override
+    @PostMapping("/nodes/{node-id}/tech-stack/recommendation/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CommonResponse<AiJobReadDto.Response> submitRecommendTechStack(@PathVariable(name = "node-id") Long nodeId) {
+        return CommonResponse.success(SuccessCode.SUCCESS, AiJobReadDto.Response.from(
+                aiJobService.submit(LockType.TECH, nodeId, () -> nodeService.recommendTechStack(nodeId))));
     }
 
     @PostMapping("/nodes/{nodeId}/tech-stack")
@@ -1,15 +1,18 @@
 package com.ssafy.projectree.domain.node.api.controller;
 
+import com.ssafy.projectree.domain.node.api.dto.NodeMoveDto;
 import com.ssafy.projectree.domain.node.api.dto.NodePositionUpdateDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeTechSelectDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeUpdateDto;
-import com.ssafy.projectree.domain.node.usecase.NodeCrdtService;
+import com.ssafy.projectree.domain.node.cache.NodeRoot;
+import com.ssafy.projectree.domain.node.usecase.NodePositionBuffer;
 import com.ssafy.projectree.domain.node.usecase.NodeService;
 import com.ssafy.projectree.global.api.code.SuccessCode;
 import com.ssafy.projectree.global.api.response.CommonResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,9 +26,16 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class NodeInternalController {
 
-    private final NodeCrdtService nodeCrdtService;
+    private final NodePositionBuffer nodePositionBuffer;
     private final NodeService nodeService;
 
+    @GetMapping("/{nodeId}/root")
+    public CommonResponse<NodeRoot> getNodeRoot(
+            @PathVariable Long nodeId
+    ) {
+        return CommonResponse.success(SuccessCode.SUCCESS, nodeService.getNodeRoot(nodeId));
+    }
+
     @PatchMapping("/{nodeId}/detail")
     public CommonResponse<Void> saveNodeDetail(
             @PathVariable Long nodeId,
@@ -39,9 +49,7 @@ public class NodeInternalController {
     public CommonResponse<Void> updateNodePositions(
             @RequestBody NodePositionUpdateDto.Request request
     ) {
-        nodeCrdtService.savePositionAsync(
-                request.getNodes()
-        );
+        nodePositionBuffer.offer(request.getNodes());
 
         return CommonResponse.success(SuccessCode.UPDATED, null); // 202
     }
@@ -55,6 +63,15 @@ public class NodeInternalController {
         return CommonResponse.success(SuccessCode.UPDATED, null);
     }
 
+    @PatchMapping("/{nodeId}/parent")
+    public CommonResponse<Void> moveNode(
+            @PathVariable Long nodeId,
+            @RequestBody NodeMoveDto.Request request
+    ) {
+        nodeService.moveNode(nodeId, request.getParentId());
+        return CommonResponse.success(SuccessCode.UPDATED, null);
+    }
+
     @DeleteMapping("/{nodeId}")
     public CommonResponse<Void> deleteNode(
             @PathVariable Long nodeId
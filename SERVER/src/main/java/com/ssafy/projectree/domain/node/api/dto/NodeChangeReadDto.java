@@ -0,0 +1,31 @@
+package com.ssafy.projectree.domain.node.api.dto;
+
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeSchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class NodeChangeReadDto {
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "NodeChangeReadDto.Response", description = "노드 트리 변경분 조회 응답")
+    public static class Response {
+        @Schema(description = "현재 시퀀스, 다음 조회 시 since로 전달", example = "128")
+        private Long sequence;
+
+        @Schema(description = "true이면 nodes가 전체 트리 (변경분 조회 불가로 스냅샷 응답)", example = "false")
+        private boolean snapshot;
+
+        @Schema(description = "생성/수정/이동된 노드 (스냅샷이면 전체 노드)")
+        private List<NodeSchema> nodes;
+
+        @Schema(description = "삭제된 노드 ID 목록", example = "[12, 13]")
+        private List<Long> deletedNodeIds;
+    }
+}
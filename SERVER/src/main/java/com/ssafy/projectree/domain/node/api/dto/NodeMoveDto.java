@@ -0,0 +1,13 @@
+package com.ssafy.projectree.domain.node.api.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class NodeMoveDto {
+
+    @Data
+    @NoArgsConstructor
+    public static class Request {
+        private Long parentId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.projectree.domain.node.api.dto;
+
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeSchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class NodeSubtreeReadDto {
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "NodeSubtreeReadDto.Response", description = "깊이 제한 서브트리 조회 응답")
+    public static class Response {
+        @Schema(description = "기준 노드의 하위 노드 목록 (깊이, 노드 ID 오름차순)")
+        private List<NodeSchema> nodes;
+
+        @Schema(description = "다음 페이지 조회 시 cursorDepth로 전달할 값, 마지막 페이지면 null", example = "2")
+        private Integer nextCursorDepth;
+
+        @Schema(description = "다음 페이지 조회 시 cursorId로 전달할 값, 마지막 페이지면 null", example = "1532")
+        private Long nextCursorId;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+    }
+}
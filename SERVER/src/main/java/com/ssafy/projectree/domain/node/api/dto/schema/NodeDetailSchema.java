@@ -0,0 +1,22 @@
+package com.ssafy.projectree.domain.node.api.dto.schema;
+
+/**
+ * 노드 상세 조회용 평탄화 프로젝션
+ * 노드/담당자 정보에 후보 1건씩을 붙인 행이며, 후보가 없으면 후보 컬럼이 null인 1행이 조회된다.
+ */
+public interface NodeDetailSchema {
+    Long getId();
+    String getDescription();
+    String getNote();
+    String getComparison();
+
+    Long getAssigneeId();
+    String getAssigneeNickname();
+
+    Long getCandidateId();
+    String getCandidateName();
+    String getCandidateDescription();
+    String getCandidateSummary();
+    Boolean getCandidateSelected();
+    Long getDerivationId();
+}
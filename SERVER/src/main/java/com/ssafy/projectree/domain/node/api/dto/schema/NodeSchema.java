@@ -1,5 +1,6 @@
 package com.ssafy.projectree.domain.node.api.dto.schema;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ssafy.projectree.domain.node.enums.NodeStatus;
 import com.ssafy.projectree.domain.node.enums.NodeType;
 import com.ssafy.projectree.domain.node.enums.Priority;
@@ -16,7 +17,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
-@Builder
+@Builder(toBuilder = true)
 @Schema(description = "노드 트리 구성을 위한 노드 스키마")
 public class NodeSchema {
     @Schema(description = "노드 식별자", example = "1")
@@ -40,6 +41,10 @@ public class NodeSchema {
     @Schema(description = "클라이언트 preview 노드 식별자", example = "preview-42")
     private String previewNodeId;
 
+    @Schema(description = "직계 자식 노드 수 (서브트리 부분 조회 시에만 포함)", example = "4")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long childCount;
+
     private Body data;
 
     public static NodeSchema convertToSchema(Node entity, Long parentId) {
@@ -0,0 +1,12 @@
+package com.ssafy.projectree.domain.node.api.dto.schema;
+
+/**
+ * 깊이 제한 서브트리 조회용 프로젝션
+ * 기존 NodeWithParentSchema(평탄화 조회 결과)를 그대로 쓰고, 서브트리 조회에만 필요한 두 값을 더한다.
+ * depth는 (깊이, ID) 키셋 커서를 만들기 위해, childCount는 펼치기 가능 여부 표시를 위해 필요하다.
+ */
+public interface NodeSubtreeSchema extends NodeWithParentSchema {
+    Integer getDepth();
+
+    Long getChildCount();
+}
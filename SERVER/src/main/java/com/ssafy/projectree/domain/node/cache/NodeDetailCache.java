@@ -0,0 +1,103 @@
+package com.ssafy.projectree.domain.node.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.projectree.domain.node.api.dto.NodeReadDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * nodeId -> 노드 상세(NodeReadDto.Response) 캐시
+ * 사이드 패널은 노드를 클릭할 때마다 상세를 조회하지만 대부분의 노드는 거의 바뀌지 않는다.
+ * 변경이 있으면 해당 노드를 갱신(write-through)하거나 무효화한다.
+ * 적중률은 cache.gets{cache=node-detail}, node.detail.cache.hit.ratio 메트릭으로 확인할 수 있다.
+ */
+@Component
+public class NodeDetailCache {
+
+    private final Cache<Long, NodeReadDto.Response> details;
+
+    public NodeDetailCache(
+            @Value("${node-detail-cache.max-size:10000}") long maxSize,
+            @Value("${node-detail-cache.expire-after-write:10m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry
+    ) {
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "node-detail");
+        Gauge.builder("node.detail.cache.hit.ratio", details, cache -> cache.stats().hitRate())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 없으면 loader로 조회하여 저장한다. loader에서 발생한 예외는 그대로 전달된다.
+     */
+    public NodeReadDto.Response get(Long nodeId, Function<Long, NodeReadDto.Response> loader) {
+        return details.get(nodeId, loader);
+    }
+
+    /**
+     * 캐시된 상세에 변경 내용을 반영한다. 캐시에 없으면 아무 것도 하지 않는다.
+     * 롤백된 변경이 남지 않도록 트랜잭션 안에서는 커밋 이후에 반영한다.
+     * 반영 중인 조회(loader)가 있으면 끝날 때까지 기다렸다가 그 결과에 반영된다.
+     */
+    public void update(Long nodeId, UnaryOperator<NodeReadDto.Response> updater) {
+        runAfterCommit(() -> details.asMap().computeIfPresent(nodeId, (id, cached) -> updater.apply(cached)));
+    }
+
+    /**
+     * 노드 상세를 무효화한다. 트랜잭션 안에서는 커밋 이후에 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 옛 데이터로 캐시를 다시 채우는 것을 막는다.
+     */
+    public void evict(Long nodeId) {
+        if (nodeId == null) {
+            return;
+        }
+        evictAll(Set.of(nodeId));
+    }
+
+    public void evictAll(Collection<Long> nodeIds) {
+        details.invalidateAll(nodeIds);
+        runAfterCommit(() -> details.invalidateAll(nodeIds));
+    }
+
+    /**
+     * 후보의 파생 노드가 삭제되면 그 후보를 가진 노드의 상세도 바뀌므로,
+     * 캐시된 상세 중 파생 노드 ID가 nodeIds에 포함된 항목을 무효화한다. (DB 조회 없음)
+     */
+    public void evictDerivedFrom(Collection<Long> nodeIds) {
+        Set<Long> derivationIds = Set.copyOf(nodeIds);
+        Runnable evict = () -> details.asMap().values().removeIf(detail -> detail.getCandidates().stream()
+                .anyMatch(candidate -> candidate.getDerivationId() != null
+                        && derivationIds.contains(candidate.getDerivationId())));
+        evict.run();
+        runAfterCommit(evict);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
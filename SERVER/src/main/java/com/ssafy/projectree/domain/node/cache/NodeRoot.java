@@ -0,0 +1,7 @@
+package com.ssafy.projectree.domain.node.cache;
+
+/**
+ * 노드가 속한 프로젝트(루트) 노드와 워크스페이스 정보
+ */
+public record NodeRoot(Long projectNodeId, Long workspaceId) {
+}
@@ -0,0 +1,52 @@
+package com.ssafy.projectree.domain.node.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * nodeId -> (프로젝트 노드 ID, 워크스페이스 ID) 캐시
+ * 살아있는 노드의 루트는 바뀌지 않으므로, findRoot 쿼리(ORDER BY depth DESC)를 매 요청마다 실행하지 않는다.
+ * 적중/실패 횟수는 cache.gets{cache=node-root} 메트릭으로 확인할 수 있다.
+ */
+@Component
+public class NodeRootCache {
+
+    private final Cache<Long, NodeRoot> roots;
+
+    public NodeRootCache(
+            @Value("${node-root-cache.max-size:100000}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.roots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, roots, "node-root");
+    }
+
+    /**
+     * 캐시에 없으면 loader로 조회하여 저장한다. loader에서 발생한 예외는 그대로 전달된다.
+     */
+    public NodeRoot get(Long nodeId, Function<Long, NodeRoot> loader) {
+        return roots.get(nodeId, loader);
+    }
+
+    public NodeRoot getIfPresent(Long nodeId) {
+        return roots.getIfPresent(nodeId);
+    }
+
+    public void put(Long nodeId, NodeRoot root) {
+        roots.put(nodeId, root);
+    }
+
+    public void evictAll(Collection<Long> nodeIds) {
+        roots.invalidateAll(nodeIds);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ssafy.projectree.domain.node.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.projectree.domain.node.api.dto.NodePositionUpdateDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeTreeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeSchema;
+import com.ssafy.projectree.domain.node.api.dto.schema.PositionSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 워크스페이스별로 완성된 노드 트리 스냅샷을 보관하는 로컬 캐시
+ * 트리 조회 쿼리(findAllFlatNodesByWorkspace)는 노드 수에 비례해 비싸므로,
+ * 변경이 없는 동안에는 메모리에 있는 스냅샷으로 응답한다.
+ * 스냅샷에는 트리를 읽은 시점의 content_version을 함께 저장하고, 조회할 때마다 현재 버전과 비교하여
+ * 다른 인스턴스에서 버전이 올라간 경우에도 오래된 스냅샷을 내려주지 않는다.
+ */
+@Slf4j
+@Component
+public class NodeTreeCache {
+
+    private final Cache<Long, Snapshot> snapshots;
+
+    // nodeId -> workspaceId, 위치 변경 시 해당 워크스페이스 스냅샷만 찾기 위한 색인
+    // 색인에서 밀려난 노드의 스냅샷은 좌표를 반영할 수 없으므로 함께 버림
+    private final Cache<Long, Long> nodeWorkspaces;
+
+    public NodeTreeCache(
+            @Value("${node-tree-cache.max-size:256}") long maxSize,
+            @Value("${node-tree-cache.expire-after-access:30m}") Duration expireAfterAccess,
+            @Value("${node-tree-cache.node-index-size:1000000}") long nodeIndexSize
+    ) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.nodeWorkspaces = Caffeine.newBuilder()
+                .maximumSize(nodeIndexSize)
+                .<Long, Long>removalListener((nodeId, workspaceId, cause) -> {
+                    if (cause.wasEvicted() && workspaceId != null) {
+                        snapshots.invalidate(workspaceId);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 현재 버전 이상의 스냅샷이 캐시에 있으면 반환하고, 없거나 오래됐으면 loader로 다시 만들어 저장한다.
+     * currentVersion과 loader의 트리는 같은 DB 스냅샷(트랜잭션)에서 읽어야 한다.
+     * 같은 워크스페이스에 대한 동시 조회는 한 번만 loader를 실행한다.
+     * 그 사이 쌓인 좌표 변경은 조회 시 한 번에 트리에 반영한다.
+     */
+    public VersionedNodeTree get(Long workspaceId, long currentVersion, Function<Long, NodeTreeReadDto.Response> loader) {
+        Snapshot cached = snapshots.getIfPresent(workspaceId);
+        if (cached == null || cached.version() < currentVersion || cached.isPatched()) {
+            cached = snapshots.asMap().compute(workspaceId, (id, snapshot) -> {
+                if (snapshot != null && snapshot.version() >= currentVersion) {
+                    return snapshot.compact();
+                }
+                Snapshot loaded = new Snapshot(currentVersion, loader.apply(id));
+                loaded.tree().getTree().forEach(node -> nodeWorkspaces.put(node.getId(), id));
+                return loaded;
+            });
+        }
+        return new VersionedNodeTree(cached.version(), cached.tree());
+    }
+
+    /**
+     * 워크스페이스의 트리 스냅샷을 무효화한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 옛 데이터로 캐시를 다시 채우는 것을 막는다.
+     */
+    public void evict(Long workspaceId) {
+        if (workspaceId == null) {
+            return;
+        }
+        snapshots.invalidate(workspaceId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.invalidate(workspaceId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 위치 변경은 잦기 때문에 트리 전체를 버리거나 복사하지 않고, 스냅샷의 좌표 맵에 바뀐 노드만 기록한다.
+     * 트리에는 다음 조회 때 한 번에 반영되므로 변경 비용은 바뀐 노드 수에만 비례한다.
+     */
+    public void patchPositions(List<NodePositionUpdateDto.NodePositionItem> items) {
+        Map<Long, Map<Long, PositionSchema>> positionsByWorkspace = new HashMap<>();
+        for (NodePositionUpdateDto.NodePositionItem item : items) {
+            Long workspaceId = nodeWorkspaces.getIfPresent(item.getNodeId());
+            if (workspaceId != null) {
+                positionsByWorkspace.computeIfAbsent(workspaceId, id -> new HashMap<>())
+                        .put(item.getNodeId(), new PositionSchema(item.getPosition().getX(), item.getPosition().getY()));
+            }
+        }
+        // 같은 워크스페이스를 로드하거나 반영 중이면 끝난 뒤에 기록됨
+        positionsByWorkspace.forEach((workspaceId, positions) ->
+                snapshots.asMap().computeIfPresent(workspaceId, (id, snapshot) -> snapshot.patch(positions)));
+    }
+
+    /**
+     * tree는 공유되므로 바꾸지 않고, 아직 반영하지 않은 좌표는 positions에 모아 둔다.
+     */
+    private record Snapshot(long version, NodeTreeReadDto.Response tree, Map<Long, PositionSchema> positions) {
+        Snapshot(long version, NodeTreeReadDto.Response tree) {
+            this(version, tree, new ConcurrentHashMap<>());
+        }
+
+        boolean isPatched() {
+            return !positions.isEmpty();
+        }
+
+        Snapshot patch(Map<Long, PositionSchema> changed) {
+            positions.putAll(changed);
+            return this;
+        }
+
+        // 쌓인 좌표를 반영한 새 스냅샷 (바뀐 노드만 복사)
+        Snapshot compact() {
+            if (!isPatched()) {
+                return this;
+            }
+            List<NodeSchema> patched = tree.getTree().stream()
+                    .map(node -> positions.containsKey(node.getId())
+                            ? node.toBuilder().position(positions.get(node.getId())).build()
+                            : node)
+                    .toList();
+            return new Snapshot(version, NodeTreeReadDto.Response.builder().tree(patched).build());
+        }
+    }
+}
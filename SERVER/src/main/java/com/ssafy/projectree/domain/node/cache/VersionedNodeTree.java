@@ -0,0 +1,10 @@
+package com.ssafy.projectree.domain.node.cache;
+
+import com.ssafy.projectree.domain.node.api.dto.NodeTreeReadDto;
+
+/**
+ * 노드 트리와 그 트리를 읽은 시점의 워크스페이스 content_version
+ * ETag는 이 버전으로 만들어야 본문과 어긋나지 않는다.
+ */
+public record VersionedNodeTree(long version, NodeTreeReadDto.Response tree) {
+}
@@ -0,0 +1,9 @@
+package com.ssafy.projectree.domain.node.enums;
+
+/**
+ * CRDT 서버로 보내는 변경 이벤트 종류 (CRDT 서버 배치 API의 type 값과 같음)
+ * TECH_RESET, CANDIDATE_RESET은 추론 실패 시 노드의 pending 표시를 해제한다.
+ */
+public enum CrdtEventType {
+    NODE, TECH, CUSTOM_TECH, CANDIDATE, TECH_RESET, CANDIDATE_RESET
+}
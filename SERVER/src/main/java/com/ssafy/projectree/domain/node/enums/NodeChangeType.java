@@ -0,0 +1,5 @@
+package com.ssafy.projectree.domain.node.enums;
+
+public enum NodeChangeType {
+    CREATED, UPDATED, MOVED, DELETED
+}
@@ -0,0 +1,66 @@
+package com.ssafy.projectree.domain.node.model.entity;
+
+import com.ssafy.projectree.domain.node.enums.CrdtEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * CRDT 서버로 전달하지 못한 이벤트
+ * 워크스페이스별로 id 순서대로 재전송하며, 전달되면 바로 삭제하므로 soft delete를 쓰지 않는다.
+ * CRDT 서버가 거부했거나 재시도 횟수를 넘긴 이벤트는 deadAt을 기록해 재전송 대상에서 빼고 확인용으로 남긴다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "crdt_pending_event", indexes = {
+		@Index(name = "idx_crdt_pending_event_workspace_id", columnList = "workspace_id, id")
+})
+public class CrdtPendingEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "workspace_id", nullable = false)
+	private Long workspaceId;
+
+	// 멱등 키 (CRDT 서버는 이미 반영한 키의 이벤트를 버림)
+	@Column(name = "event_id", length = 36, nullable = false)
+	private String eventId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20, nullable = false)
+	private CrdtEventType type;
+
+	@Column(name = "node_id")
+	private Long nodeId;
+
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String payload;
+
+	// 이벤트가 처음 발생한 시각 (전달 지연 측정용)
+	@Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMP")
+	private LocalDateTime createdAt;
+
+	// 전달을 포기한 시각 (null이면 재전송 대상)
+	@Column(name = "dead_at", columnDefinition = "TIMESTAMP")
+	private LocalDateTime deadAt;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+}
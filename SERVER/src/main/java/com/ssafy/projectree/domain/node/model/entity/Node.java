@@ -21,6 +21,10 @@ import org.hibernate.annotations.SQLRestriction;
 @Setter
 @DiscriminatorColumn(name = "node_type") // 구분 컬럼
 @Inheritance(strategy = InheritanceType.JOINED)
+@Table(name = "node", indexes = {
+        // 워크스페이스 단위 트리/통계/포트폴리오 조회용 인덱스
+        @Index(name = "idx_node_workspace_deleted", columnList = "workspace_id, deleted_at")
+})
 @SuperBuilder
 @SQLDelete(sql = "UPDATE node SET deleted_at = NOW() WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
@@ -33,6 +37,10 @@ public abstract class Node extends BaseEntity {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    // 소속 워크스페이스 (node_tree를 거치지 않고 워크스페이스의 노드를 찾기 위한 비정규화 컬럼)
+    @Column(name = "workspace_id")
+    private Long workspaceId;
+
     @Column(columnDefinition = "VARCHAR(100)")
     private String name;
 
@@ -0,0 +1,51 @@
+package com.ssafy.projectree.domain.node.model.entity;
+
+import com.ssafy.projectree.domain.node.enums.NodeChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 워크스페이스 노드 변경 이력 (증분 동기화용)
+ * version은 변경 시점의 워크스페이스 content_version이며, 클라이언트는 이 값을 시퀀스로 사용한다.
+ * 보존 기간이 지난 행은 삭제되므로 soft delete를 쓰지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "node_change_log", indexes = {
+		@Index(name = "idx_node_change_log_workspace_version", columnList = "workspace_id, version"),
+		@Index(name = "idx_node_change_log_created_at", columnList = "created_at")
+})
+public class NodeChangeLog {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "workspace_id", nullable = false)
+	private Long workspaceId;
+
+	@Column(nullable = false)
+	private Long version;
+
+	@Column(name = "node_id", nullable = false)
+	private Long nodeId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "change_type", length = 10, nullable = false)
+	private NodeChangeType changeType;
+
+	@Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMP")
+	private LocalDateTime createdAt;
+}
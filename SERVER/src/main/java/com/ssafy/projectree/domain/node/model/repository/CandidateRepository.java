@@ -11,21 +11,30 @@ import java.util.List;
 public interface CandidateRepository extends JpaRepository<Candidate, Long> {
 
 
+    //하위 2개는 노드 삭제 시 서브트리 전체에 대해 한 번에 적용 (노드 수와 무관하게 쿼리 1회)
     @Modifying(clearAutomatically = true)
     @Query("""
-             update Candidate c 
-             set c.deletedAt = CURRENT_TIMESTAMP
-             where c.parent.id = :parentId
-            """)
-    void deleteByParentId(Long parentId);
+        update Candidate c
+        set c.deletedAt = CURRENT_TIMESTAMP
+        where c.parent.id in (
+            select nt.descendant.id
+            from NodeTree nt
+            where nt.ancestor.id = :nodeId
+        )
+    """)
+    void deleteAllInSubtree(Long nodeId);
 
     @Modifying(clearAutomatically = true)
     @Query("""
         update Candidate c
         set c.isSelected = false, c.derivationNode = null
-        where c.derivationNode.id = :nodeId 
+        where c.derivationNode.id in (
+            select nt.descendant.id
+            from NodeTree nt
+            where nt.ancestor.id = :nodeId
+        )
     """)
-    void disConnectDerivation(Long nodeId);
+    void disConnectDerivationInSubtree(Long nodeId);
 
     List<Candidate> findByParent(Node parent);
 
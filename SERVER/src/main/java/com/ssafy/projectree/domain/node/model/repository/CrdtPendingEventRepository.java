@@ -0,0 +1,45 @@
+package com.ssafy.projectree.domain.node.model.repository;
+
+import com.ssafy.projectree.domain.node.model.entity.CrdtPendingEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CrdtPendingEventRepository extends JpaRepository<CrdtPendingEvent, Long> {
+
+    List<CrdtPendingEvent> findByWorkspaceIdAndDeadAtIsNullOrderByIdAsc(Long workspaceId, Limit limit);
+
+    // 재시작 시 재전송할 워크스페이스와 가장 오래된 이벤트 시각
+    @Query("""
+            SELECT e.workspaceId AS workspaceId, MIN(e.createdAt) AS oldestCreatedAt
+            FROM CrdtPendingEvent e
+            WHERE e.deadAt IS NULL
+            GROUP BY e.workspaceId
+            """)
+    List<PendingWorkspace> findPendingWorkspaces();
+
+    // 재전송 대상에서 제외 (행은 확인용으로 남김)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE CrdtPendingEvent e
+            SET e.deadAt = :deadAt,
+                e.lastError = :error
+            WHERE e.id IN :ids
+            """)
+    void markDead(@Param("ids") List<Long> ids,
+                  @Param("deadAt") LocalDateTime deadAt,
+                  @Param("error") String error);
+
+    interface PendingWorkspace {
+        Long getWorkspaceId();
+
+        LocalDateTime getOldestCreatedAt();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ssafy.projectree.domain.node.model.repository;
+
+import com.ssafy.projectree.domain.node.model.entity.NodeChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NodeChangeLogRepository extends JpaRepository<NodeChangeLog, Long> {
+
+    // 노드 수와 관계없이 INSERT ... SELECT 한 번으로 기록 (다른 워크스페이스의 노드는 제외)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO node_change_log (workspace_id, version, node_id, change_type, created_at)
+            SELECT :workspaceId, :version, n.id, :changeType, LOCALTIMESTAMP
+            FROM node n
+            WHERE n.id IN (:nodeIds)
+            AND n.workspace_id = :workspaceId
+            """)
+    void insertAll(@Param("workspaceId") Long workspaceId,
+                   @Param("version") long version,
+                   @Param("nodeIds") Collection<Long> nodeIds,
+                   @Param("changeType") String changeType);
+
+    // 위치 변경 기록: 같은 버전 구간에 이미 기록된 노드는 건너뛰어 노드당 한 행만 남김
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO node_change_log (workspace_id, version, node_id, change_type, created_at)
+            SELECT :workspaceId, :version, n.id, 'UPDATED', LOCALTIMESTAMP
+            FROM node n
+            WHERE n.id IN (:nodeIds)
+            AND n.workspace_id = :workspaceId
+            AND NOT EXISTS (
+                SELECT 1
+                FROM node_change_log l
+                WHERE l.workspace_id = :workspaceId
+                AND l.version = :version
+                AND l.node_id = n.id
+            )
+            """)
+    void insertPositions(@Param("workspaceId") Long workspaceId,
+                         @Param("version") long version,
+                         @Param("nodeIds") Collection<Long> nodeIds);
+
+    // nodeId를 포함한 서브트리 전체를 기록 (서브트리 삭제용)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO node_change_log (workspace_id, version, node_id, change_type, created_at)
+            SELECT :workspaceId, :version, nt.descendant_id, :changeType, LOCALTIMESTAMP
+            FROM node_tree nt
+            WHERE nt.ancestor_id = :nodeId
+            """)
+    void insertSubtree(@Param("workspaceId") Long workspaceId,
+                       @Param("version") long version,
+                       @Param("nodeId") Long nodeId,
+                       @Param("changeType") String changeType);
+
+    @Query("""
+            SELECT l
+            FROM NodeChangeLog l
+            WHERE l.workspaceId = :workspaceId
+            AND l.version > :since
+            AND l.version <= :until
+            ORDER BY l.version, l.id
+            """)
+    List<NodeChangeLog> findChanges(@Param("workspaceId") Long workspaceId,
+                                    @Param("since") long since,
+                                    @Param("until") long until);
+
+    // 삭제될 이력의 최대 버전을 워크스페이스의 change_log_floor로 올려, 그 이전 시퀀스 요청은 스냅샷으로 응답하게 함
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE workspace w
+            SET change_log_floor = c.max_version
+            FROM (
+                SELECT workspace_id, MAX(version) AS max_version
+                FROM node_change_log
+                WHERE created_at < :cutoff
+                GROUP BY workspace_id
+            ) c
+            WHERE w.id = c.workspace_id
+            AND w.change_log_floor < c.max_version
+            """)
+    void raiseFloorBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM node_change_log WHERE created_at < :cutoff")
+    int deleteBefore(@Param("cutoff") LocalDateTime cutoff);
+}
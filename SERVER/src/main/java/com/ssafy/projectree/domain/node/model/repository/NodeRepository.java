@@ -1,28 +1,66 @@
 package com.ssafy.projectree.domain.node.model.repository;
 
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeDetailSchema;
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeSubtreeSchema;
 import com.ssafy.projectree.domain.node.api.dto.schema.NodeWithParentSchema;
 import com.ssafy.projectree.domain.node.model.entity.AdvanceNode;
 import com.ssafy.projectree.domain.node.model.entity.Node;
 import com.ssafy.projectree.domain.node.model.entity.TaskNode;
 import com.ssafy.projectree.domain.node.model.repository.custom.NodeRepositoryCustom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface NodeRepository extends JpaRepository<Node, Long>, NodeRepositoryCustom {
+
+    // 워크스페이스의 모든 노드를 부모 ID와 함께 평탄화하여 조회하는 쿼리 (전체/일부 노드 조회에서 공유)
+    String FLAT_NODES_BY_WORKSPACE = """
+                SELECT
+                    n.id as id,
+                    n.name as name,
+                    TYPE(n) as nodeType,
+                    n.status as status,
+                    n.identifier as identifier,
+                    n.priority as priority,
+                    n.xPos as xPos,
+                    n.yPos as yPos,
+                    nt.ancestor.id as parentId,
+                    COALESCE( tn.difficult, an.difficult) as difficult,
+                    tn.type as taskType
+                FROM Node n
+                LEFT JOIN NodeTree nt 
+                    ON n.id = nt.descendant.id 
+                    AND nt.depth = 1         
+                LEFT JOIN TaskNode tn 
+                    ON n.id = tn.id
+                LEFT JOIN AdvanceNode an
+                    on n.id = an.id
+            
+                WHERE n.workspaceId = :workspaceId
+                AND n.deletedAt IS NULL 
+            """;
+
+    // 변경 전 값을 기준으로 집계를 증감하는 수정용 (동시 수정이 같은 이전 값을 읽지 않도록 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Node n WHERE n.id = :nodeId")
+    Optional<Node> findByIdForUpdate(@Param("nodeId") Long nodeId);
+
     @Query("SELECT TYPE(n) FROM Node n WHERE n.id = :nodeId")
     Optional<Class<? extends Node>> findNodeTypeById(@Param("nodeId") Long nodeId);
 
     @Query("""
                 SELECT tn
                 FROM TaskNode tn
-                JOIN NodeTree nt ON tn.id = nt.descendant.id
-                JOIN ProjectNode pn ON nt.ancestor.id = pn.id
-                WHERE pn.workspace.id = :workspaceId
+                WHERE tn.workspaceId = :workspaceId
                 AND tn.member.id = :memberId
                 AND tn.status = 'DONE'
                 AND tn.deletedAt IS NULL
@@ -32,9 +70,7 @@ public interface NodeRepository extends JpaRepository<Node, Long>, NodeRepositor
     @Query("""
                 SELECT an
                 FROM AdvanceNode an
-                JOIN NodeTree nt ON an.id = nt.descendant.id
-                JOIN ProjectNode pn ON nt.ancestor.id = pn.id
-                WHERE pn.workspace.id = :workspaceId
+                WHERE an.workspaceId = :workspaceId
                 AND an.member.id = :memberId
                 AND an.status = 'DONE'
                 AND an.deletedAt IS NULL
@@ -50,7 +86,51 @@ public interface NodeRepository extends JpaRepository<Node, Long>, NodeRepositor
             """)
     void updatePosition(Long id, double x, double y);
 
+    @Query(FLAT_NODES_BY_WORKSPACE)
+    List<NodeWithParentSchema> findAllFlatNodesByWorkspace(@Param("workspaceId") Long workspaceId);
+
+    // 변경 이력 기반 증분 조회용: 지정한 노드만 트리 조회와 같은 형식으로 조회
+    @Query(FLAT_NODES_BY_WORKSPACE + " AND n.id IN :nodeIds")
+    List<NodeWithParentSchema> findFlatNodesByWorkspaceAndIds(@Param("workspaceId") Long workspaceId,
+                                                              @Param("nodeIds") Collection<Long> nodeIds);
 
+    // 노드 상세 조회: 노드, 담당자, 후보(파생 노드 ID 포함)를 한 번에 조회 (후보 1건당 1행)
+    // 파생 노드는 FK 컬럼만 읽으므로 후보 수만큼 노드를 다시 조회하지 않는다.
+    @Query("""
+                SELECT
+                    n.id as id,
+                    n.description as description,
+                    n.note as note,
+                    COALESCE(tn.comparison, an.comparison) as comparison,
+                    m.id as assigneeId,
+                    m.nickname as assigneeNickname,
+                    c.id as candidateId,
+                    c.name as candidateName,
+                    c.description as candidateDescription,
+                    c.summary as candidateSummary,
+                    c.isSelected as candidateSelected,
+                    c.derivationNode.id as derivationId
+                FROM Node n
+                LEFT JOIN n.member m
+                LEFT JOIN TaskNode tn
+                    ON n.id = tn.id
+                LEFT JOIN AdvanceNode an
+                    ON n.id = an.id
+                LEFT JOIN Candidate c
+                    ON c.parent.id = n.id
+                    AND c.deletedAt IS NULL
+                WHERE n.id = :nodeId
+                AND n.deletedAt IS NULL
+                ORDER BY c.id
+            """)
+    List<NodeDetailSchema> findNodeDetails(@Param("nodeId") Long nodeId);
+
+    @Query("SELECT DISTINCT n.workspaceId FROM Node n WHERE n.id IN :nodeIds AND n.workspaceId IS NOT NULL")
+    List<Long> findWorkspaceIdsByIds(@Param("nodeIds") Collection<Long> nodeIds);
+
+    // nodeId 기준 1 ~ maxDepth 깊이의 하위 노드를 (깊이, ID) 키셋(cursor) 방식으로 조회
+    // 얕은 깊이부터 내려주므로 부모는 항상 자식보다 먼저 (같거나 앞선 페이지에) 포함됨
+    // childCount는 화면에서 펼치기 가능 여부를 표시하기 위한 직계 자식 수
     @Query("""
                 SELECT
                     n.id as id,
@@ -61,29 +141,37 @@ public interface NodeRepository extends JpaRepository<Node, Long>, NodeRepositor
                     n.priority as priority,
                     n.xPos as xPos,
                     n.yPos as yPos,
-                    nt.ancestor.id as parentId,
+                    p.ancestor.id as parentId,
                     COALESCE( tn.difficult, an.difficult) as difficult,
-                    tn.type as taskType
-                FROM Node n
-                LEFT JOIN NodeTree nt 
-                    ON n.id = nt.descendant.id 
-                    AND nt.depth = 1         
-                LEFT JOIN TaskNode tn 
+                    tn.type as taskType,
+                    sub.depth as depth,
+                    (SELECT COUNT(c)
+                        FROM NodeTree c
+                        JOIN c.descendant cd
+                        WHERE c.ancestor.id = n.id
+                        AND c.depth = 1
+                        AND cd.deletedAt IS NULL) as childCount
+                FROM NodeTree sub
+                JOIN sub.descendant n
+                LEFT JOIN NodeTree p
+                    ON n.id = p.descendant.id
+                    AND p.depth = 1
+                LEFT JOIN TaskNode tn
                     ON n.id = tn.id
                 LEFT JOIN AdvanceNode an
                     on n.id = an.id
-            
-                WHERE n.id IN (
-                    SELECT child.descendant.id
-                    FROM NodeTree child
-                    JOIN ProjectNode pn ON child.ancestor.id = pn.id
-                    WHERE pn.workspace.id = :workspaceId
-                    AND pn.deletedAt IS NULL 
-                )
-                AND n.deletedAt IS NULL 
-            """)
-    List<NodeWithParentSchema> findAllFlatNodesByWorkspace(@Param("workspaceId") Long workspaceId);
 
+                WHERE sub.ancestor.id = :nodeId
+                AND sub.depth BETWEEN 1 AND :maxDepth
+                AND n.deletedAt IS NULL
+                AND (sub.depth > :cursorDepth OR (sub.depth = :cursorDepth AND n.id > :cursorId))
+                ORDER BY sub.depth, n.id
+            """)
+    List<NodeSubtreeSchema> findSubtreeNodes(@Param("nodeId") Long nodeId,
+                                             @Param("maxDepth") int maxDepth,
+                                             @Param("cursorDepth") int cursorDepth,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
 
     @Modifying(clearAutomatically = true)
     @Query("""
@@ -97,5 +185,4 @@ public interface NodeRepository extends JpaRepository<Node, Long>, NodeRepositor
             """)
     void deleteNodeAndDescendants(@Param("nodeId") Long nodeId);
 
-
 }
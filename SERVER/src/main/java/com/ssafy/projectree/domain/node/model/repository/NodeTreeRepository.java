@@ -20,5 +20,13 @@ public interface NodeTreeRepository extends JpaRepository<NodeTree, NodeTreeId>
 			"ORDER BY nt.depth DESC")
 	List<ProjectNode> findRoot(@Param("descendantId") Long descendantId, Pageable pageable);
 
+	//해당 노드를 포함한 모든 하위 노드의 ID
+	@Query("SELECT nt.descendant.id FROM NodeTree nt WHERE nt.ancestor.id = :ancestorId")
+	List<Long> findDescendantIds(@Param("ancestorId") Long ancestorId);
+
+	//ancestorId가 descendantId의 조상(자기 자신 포함)인지 여부
+	@Query("SELECT COUNT(nt) > 0 FROM NodeTree nt WHERE nt.ancestor.id = :ancestorId AND nt.descendant.id = :descendantId")
+	boolean isAncestorOf(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
 	List<NodeTree> findAllByDescendant(com.ssafy.projectree.domain.node.model.entity.Node descendant);
 }
@@ -1,7 +1,10 @@
 package com.ssafy.projectree.domain.node.model.repository.custom;
 
+import com.ssafy.projectree.domain.node.api.dto.NodePositionUpdateDto;
 import com.ssafy.projectree.domain.node.model.entity.Node;
 
+import java.util.List;
+
 public interface NodeRepositoryCustom {
 
 	//하위 3개는 모두 계층 관계 저장을 위한 메서드
@@ -11,4 +14,10 @@ public interface NodeRepositoryCustom {
 	//해당 메서드는 계층 관계 저장과 child노드까지 함께 저장
 	void saveWithParent(Long parentId, Node child);
 	void saveRoot(Node root);
+	//DFS 순서로 나열된 서브트리를 parentId 아래에 한 번에 저장 (노드 수와 무관하게 깊이별 고정 개수의 쿼리만 실행)
+	void saveSubtree(Long parentId, List<SubtreeNode> treeInDfsOrder);
+	//nodeId를 루트로 하는 서브트리를 newParentId 아래로 이동 (서브트리 크기와 무관하게 2개의 쿼리로 계층 정보 갱신)
+	void moveSubtree(Long nodeId, Long newParentId);
+	//드래그 배치의 노드 좌표를 한 번의 UPDATE로 반영 (같은 노드가 여러 번 오면 마지막 좌표 사용)
+	void updatePositions(List<NodePositionUpdateDto.NodePositionItem> items);
 }
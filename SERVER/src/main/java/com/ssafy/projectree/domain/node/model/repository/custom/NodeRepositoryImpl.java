@@ -1,17 +1,39 @@
 package com.ssafy.projectree.domain.node.model.repository.custom;
 
+import com.ssafy.projectree.domain.node.api.dto.NodePositionUpdateDto;
+import com.ssafy.projectree.domain.node.cache.NodeRoot;
+import com.ssafy.projectree.domain.node.cache.NodeRootCache;
+import com.ssafy.projectree.domain.node.model.entity.AdvanceNode;
+import com.ssafy.projectree.domain.node.model.entity.EpicNode;
 import com.ssafy.projectree.domain.node.model.entity.Node;
 import com.ssafy.projectree.domain.node.model.entity.NodeTree;
+import com.ssafy.projectree.domain.node.model.entity.ProjectNode;
+import com.ssafy.projectree.domain.node.model.entity.StoryNode;
+import com.ssafy.projectree.domain.node.model.entity.TaskNode;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 @Repository
+@RequiredArgsConstructor
 public class NodeRepositoryImpl implements NodeRepositoryCustom {
 
 	@PersistenceContext
 	private EntityManager em;
 
+	private final NodeRootCache nodeRootCache;
+
+	private final JdbcTemplate jdbcTemplate;
+
 	@Override
 	public void addPath(Long parentId, Node child) {
 		addPath(parentId, child.getId());
@@ -44,13 +66,263 @@ public class NodeRepositoryImpl implements NodeRepositoryCustom {
 
 	@Override
 	public void saveWithParent(Long parentId, Node child) {
+		if (child.getWorkspaceId() == null) {
+			//부모의 워크스페이스를 그대로 물려받음 (부모가 영속성 컨텍스트에 있으면 추가 쿼리 없음)
+			Node parent = em.find(Node.class, parentId);
+			if (parent != null) {
+				child.setWorkspaceId(parent.getWorkspaceId());
+			}
+		}
 		em.persist(child);
 		addPath(parentId, child.getId());
+
+		//부모의 루트 정보가 캐시에 있으면 자식도 같은 루트로 미리 채워둠
+		NodeRoot parentRoot = nodeRootCache.getIfPresent(parentId);
+		if (parentRoot != null) {
+			nodeRootCache.put(child.getId(), parentRoot);
+		}
 	}
 
 	@Override
 	public void saveRoot(Node root) {
+		if (root instanceof ProjectNode projectNode && projectNode.getWorkspace() != null) {
+			root.setWorkspaceId(projectNode.getWorkspace().getId());
+		}
 		em.persist(root);
 		em.persist(new NodeTree(root, root, 0));
+
+		if (root instanceof ProjectNode && root.getWorkspaceId() != null) {
+			nodeRootCache.put(root.getId(), new NodeRoot(root.getId(), root.getWorkspaceId()));
+		}
+	}
+
+	@Override
+	public void saveSubtree(Long parentId, List<SubtreeNode> treeInDfsOrder) {
+		if (treeInDfsOrder == null || treeInDfsOrder.isEmpty()) {
+			return;
+		}
+
+		//같은 트랜잭션에서 persist 된 부모가 DB에 반영되어 있어야 계층 정보를 복사할 수 있음
+		em.flush();
+		Node parent = em.find(Node.class, parentId);
+		Long workspaceId = parent != null ? parent.getWorkspaceId() : null;
+
+		int size = treeInDfsOrder.size();
+		Long[] ids = jdbcTemplate.queryForList(
+				"SELECT nextval(pg_get_serial_sequence('node', 'id')) FROM generate_series(1, ?)",
+				Long.class, size).toArray(new Long[0]);
+
+		//DFS 순서이므로 각 깊이의 마지막 노드가 다음 노드의 부모가 됨 (0번 = parentId)
+		Long[] parentIds = new Long[size];
+		List<Long> lastIdAtDepth = new ArrayList<>(List.of(parentId));
+		Map<Integer, List<Integer>> indexesByDepth = new TreeMap<>();
+
+		for (int i = 0; i < size; i++) {
+			SubtreeNode item = treeInDfsOrder.get(i);
+			int depth = item.depth();
+			if (depth < 1 || depth > lastIdAtDepth.size()) {
+				throw new IllegalArgumentException("DFS 순서가 아닌 서브트리입니다. index=" + i + ", depth=" + depth);
+			}
+			if (item.node() instanceof ProjectNode) {
+				throw new IllegalArgumentException("프로젝트 노드는 서브트리로 저장할 수 없습니다.");
+			}
+
+			parentIds[i] = lastIdAtDepth.get(depth - 1);
+			lastIdAtDepth.subList(depth, lastIdAtDepth.size()).clear();
+			lastIdAtDepth.add(ids[i]);
+			indexesByDepth.computeIfAbsent(depth, d -> new ArrayList<>()).add(i);
+
+			item.node().setId(ids[i]);
+			if (item.node().getWorkspaceId() == null) {
+				item.node().setWorkspaceId(workspaceId);
+			}
+		}
+
+		insertNodes(treeInDfsOrder);
+		insertSubtypes(treeInDfsOrder);
+
+		//자기 자신의 연결정보 (depth 0)
+		executeWithArrays("""
+				INSERT INTO node_tree (ancestor_id, descendant_id, depth)
+				SELECT t.id, t.id, 0
+				FROM unnest(?::bigint[]) AS t(id)
+				""", new String[]{"bigint"}, ids);
+
+		//부모의 모든 조상 경로를 깊이 단위로 한 번에 복사 (윗 단계가 먼저 저장되어야 하므로 깊이 순서대로)
+		for (List<Integer> indexes : indexesByDepth.values()) {
+			Long[] childIds = indexes.stream().map(i -> ids[i]).toArray(Long[]::new);
+			Long[] childParentIds = indexes.stream().map(i -> parentIds[i]).toArray(Long[]::new);
+
+			executeWithArrays("""
+					INSERT INTO node_tree (ancestor_id, descendant_id, depth)
+					SELECT nt.ancestor_id, c.child_id, nt.depth + 1
+					FROM unnest(?::bigint[], ?::bigint[]) AS c(child_id, parent_id)
+					JOIN node_tree nt ON nt.descendant_id = c.parent_id
+					""", new String[]{"bigint", "bigint"}, childIds, childParentIds);
+		}
+
+		NodeRoot parentRoot = nodeRootCache.getIfPresent(parentId);
+		if (parentRoot != null) {
+			for (Long id : ids) {
+				nodeRootCache.put(id, parentRoot);
+			}
+		}
+	}
+
+	@Override
+	public void moveSubtree(Long nodeId, Long newParentId) {
+		//영속성 컨텍스트에 남은 변경을 먼저 반영해야 아래 네이티브 쿼리가 최신 계층 정보를 봄
+		em.flush();
+
+		//1. 서브트리 내부 경로는 남기고, 서브트리 밖의 옛 조상과 연결된 경로만 제거
+		jdbcTemplate.update("""
+				DELETE FROM node_tree
+				WHERE descendant_id IN (SELECT descendant_id FROM node_tree WHERE ancestor_id = ?)
+				  AND ancestor_id NOT IN (SELECT descendant_id FROM node_tree WHERE ancestor_id = ?)
+				""", nodeId, nodeId);
+
+		//2. 새 부모의 모든 조상 x 서브트리의 모든 노드를 교차 결합하여 새 경로 생성
+		jdbcTemplate.update("""
+				INSERT INTO node_tree (ancestor_id, descendant_id, depth)
+				SELECT p.ancestor_id, c.descendant_id, p.depth + c.depth + 1
+				FROM node_tree p
+				CROSS JOIN node_tree c
+				WHERE p.descendant_id = ?
+				  AND c.ancestor_id = ?
+				""", newParentId, nodeId);
+
+		//네이티브 쿼리로 바뀐 NodeTree가 1차 캐시에 남지 않도록 비움
+		em.clear();
+	}
+
+	@Override
+	public void updatePositions(List<NodePositionUpdateDto.NodePositionItem> items) {
+		if (items == null || items.isEmpty()) {
+			return;
+		}
+
+		//UPDATE ... FROM 에서 같은 id가 중복되면 어느 행이 반영될지 보장되지 않으므로 미리 마지막 값만 남김
+		Map<Long, NodePositionUpdateDto.Position> latest = new LinkedHashMap<>();
+		for (NodePositionUpdateDto.NodePositionItem item : items) {
+			latest.put(item.getNodeId(), item.getPosition());
+		}
+
+		executeWithArrays("""
+				UPDATE node n
+				SET x_pos = p.x_pos,
+				    y_pos = p.y_pos
+				FROM unnest(?::bigint[], ?::float8[], ?::float8[]) AS p(id, x_pos, y_pos)
+				WHERE n.id = p.id
+				""",
+				new String[]{"bigint", "float8", "float8"},
+				latest.keySet().toArray(new Long[0]),
+				latest.values().stream().map(NodePositionUpdateDto.Position::getX).toArray(Double[]::new),
+				latest.values().stream().map(NodePositionUpdateDto.Position::getY).toArray(Double[]::new));
+	}
+
+	private void insertNodes(List<SubtreeNode> items) {
+		int size = items.size();
+		Long[] ids = new Long[size];
+		String[] nodeTypes = new String[size];
+		Long[] memberIds = new Long[size];
+		Long[] workspaceIds = new Long[size];
+		String[] names = new String[size];
+		String[] descriptions = new String[size];
+		String[] statuses = new String[size];
+		String[] priorities = new String[size];
+		String[] notes = new String[size];
+		Double[] xPositions = new Double[size];
+		Double[] yPositions = new Double[size];
+
+		for (int i = 0; i < size; i++) {
+			Node node = items.get(i).node();
+			ids[i] = node.getId();
+			nodeTypes[i] = node.getNodeType().name();
+			memberIds[i] = node.getMember() != null ? node.getMember().getId() : null;
+			workspaceIds[i] = node.getWorkspaceId();
+			names[i] = node.getName();
+			descriptions[i] = node.getDescription();
+			statuses[i] = node.getStatus() != null ? node.getStatus().name() : null;
+			priorities[i] = node.getPriority() != null ? node.getPriority().name() : null;
+			notes[i] = node.getNote();
+			xPositions[i] = node.getXPos();
+			yPositions[i] = node.getYPos();
+		}
+
+		executeWithArrays("""
+				INSERT INTO node (id, node_type, member_id, workspace_id, name, description, status, priority, note,
+				                  x_pos, y_pos, created_at, updated_at)
+				SELECT t.id, t.node_type, t.member_id, t.workspace_id, t.name, t.description, t.status, t.priority, t.note,
+				       t.x_pos, t.y_pos, LOCALTIMESTAMP, LOCALTIMESTAMP
+				FROM unnest(?::bigint[], ?::varchar[], ?::bigint[], ?::bigint[], ?::varchar[], ?::text[],
+				            ?::varchar[], ?::varchar[], ?::text[], ?::float8[], ?::float8[])
+				     AS t(id, node_type, member_id, workspace_id, name, description, status, priority, note, x_pos, y_pos)
+				""",
+				new String[]{"bigint", "varchar", "bigint", "bigint", "varchar", "text",
+						"varchar", "varchar", "text", "float8", "float8"},
+				ids, nodeTypes, memberIds, workspaceIds, names, descriptions, statuses, priorities, notes,
+				xPositions, yPositions);
+	}
+
+	//JOINED 상속의 하위 테이블은 타입별로 한 번씩만 저장
+	private void insertSubtypes(List<SubtreeNode> items) {
+		List<Long> epicIds = new ArrayList<>();
+		List<Long> storyIds = new ArrayList<>();
+		List<TaskNode> tasks = new ArrayList<>();
+		List<AdvanceNode> advances = new ArrayList<>();
+
+		for (SubtreeNode item : items) {
+			Node node = item.node();
+			if (node instanceof EpicNode) {
+				epicIds.add(node.getId());
+			} else if (node instanceof StoryNode) {
+				storyIds.add(node.getId());
+			} else if (node instanceof TaskNode task) {
+				tasks.add(task);
+			} else if (node instanceof AdvanceNode advance) {
+				advances.add(advance);
+			}
+		}
+
+		if (!epicIds.isEmpty()) {
+			executeWithArrays("INSERT INTO epic_node (node_id) SELECT unnest(?::bigint[])",
+					new String[]{"bigint"}, epicIds.toArray(new Long[0]));
+		}
+		if (!storyIds.isEmpty()) {
+			executeWithArrays("INSERT INTO story_node (node_id) SELECT unnest(?::bigint[])",
+					new String[]{"bigint"}, storyIds.toArray(new Long[0]));
+		}
+		if (!tasks.isEmpty()) {
+			executeWithArrays("""
+					INSERT INTO task_node (node_id, difficult, type, comparison)
+					SELECT * FROM unnest(?::bigint[], ?::int[], ?::varchar[], ?::text[])
+					""",
+					new String[]{"bigint", "int4", "varchar", "text"},
+					tasks.stream().map(Node::getId).toArray(Long[]::new),
+					tasks.stream().map(TaskNode::getDifficult).toArray(Integer[]::new),
+					tasks.stream().map(t -> t.getType() != null ? t.getType().name() : null).toArray(String[]::new),
+					tasks.stream().map(TaskNode::getComparison).toArray(String[]::new));
+		}
+		if (!advances.isEmpty()) {
+			executeWithArrays("""
+					INSERT INTO advance_node (node_id, difficult, comparison)
+					SELECT * FROM unnest(?::bigint[], ?::int[], ?::text[])
+					""",
+					new String[]{"bigint", "int4", "text"},
+					advances.stream().map(Node::getId).toArray(Long[]::new),
+					advances.stream().map(AdvanceNode::getDifficult).toArray(Integer[]::new),
+					advances.stream().map(AdvanceNode::getComparison).toArray(String[]::new));
+		}
+	}
+
+	//배열 파라미터를 unnest 하는 단일 쿼리 실행 (행 수와 관계없이 한 번의 왕복)
+	private void executeWithArrays(String sql, String[] sqlTypes, Object[]... columns) {
+		jdbcTemplate.update(con -> {
+			PreparedStatement ps = con.prepareStatement(sql);
+			for (int i = 0; i < columns.length; i++) {
+				ps.setArray(i + 1, con.createArrayOf(sqlTypes[i], columns[i]));
+			}
+			return ps;
+		});
 	}
 }
@@ -0,0 +1,10 @@
+package com.ssafy.projectree.domain.node.model.repository.custom;
+
+import com.ssafy.projectree.domain.node.model.entity.Node;
+
+/**
+ * 서브트리 일괄 저장용 항목
+ * depth는 saveSubtree에 전달한 부모 기준의 상대 깊이 (부모의 직계 자식 = 1)
+ */
+public record SubtreeNode(Node node, int depth) {
+}
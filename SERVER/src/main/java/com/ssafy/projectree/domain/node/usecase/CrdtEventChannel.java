@@ -0,0 +1,467 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.projectree.domain.node.enums.CrdtEventType;
+import com.ssafy.projectree.domain.node.model.entity.CrdtPendingEvent;
+import com.ssafy.projectree.domain.node.model.repository.CrdtPendingEventRepository;
+import com.ssafy.projectree.global.async.CoalescingTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 워크스페이스별 CRDT 서버 전송 채널
+ * 이벤트를 워크스페이스별 큐에 쌓아 두었다가 짧은 주기(flush-interval)마다 CrdtEventTransport로 한 번에 보낸다.
+ * 한 워크스페이스의 전송은 동시에 하나만 실행되므로 이벤트는 발생한 순서대로 CRDT 서버에 반영된다.
+ * 전송에 실패하면 이벤트를 DB(crdt_pending_event)에 저장하고 워크스페이스를 보류 상태로 두며,
+ * 보류 중에 들어온 이벤트도 순서를 지키기 위해 뒤에 저장한 뒤 백오프 간격으로 id 순서대로 재전송한다. (at-least-once)
+ * 이벤트마다 멱등 키(id)가 있어 CRDT 서버는 재전송으로 중복된 이벤트를 버린다.
+ * CRDT 서버가 거부한 묶음(413 등)은 반으로 나눠 다시 보내 거부된 이벤트만 골라내고, 그런 이벤트와
+ * 읽을 수 없는 저장 이벤트, max-attempts번 재전송해도 전달되지 않은 이벤트는 격리(deadAt 기록)하여 뒤의 이벤트를 막지 않는다.
+ * CRDT 서버가 받았지만 반영하지 못했다고 응답한 이벤트는 바로 한 번 더 보내고, 그래도 실패하면 격리한다.
+ * 배치 크기(crdt.push.batch.size), 전송 시간(crdt.push.latency), 발생부터 전송까지 걸린 시간(crdt.push.delay),
+ * 워크스페이스별 미전달 이벤트의 지연(crdt.delivery.lag)을 기록한다.
+ */
+@Slf4j
+@Component
+public class CrdtEventChannel {
+
+    private final Map<Long, WorkspaceQueue> queues = new ConcurrentHashMap<>();
+
+    private final CrdtEventTransport transport;
+    private final CrdtPendingEventRepository pendingEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Executor crdtPushExecutor;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSizes;
+    private final Timer pushDelay;
+    private final Counter parkedCounter;
+    private final Counter redeliveredCounter;
+    private final Counter droppedCounter;
+    private final Counter deadCounter;
+    private final Counter applyFailedCounter;
+    private final MultiGauge deliveryLag;
+
+    public CrdtEventChannel(
+            CrdtEventTransport transport,
+            CrdtPendingEventRepository pendingEventRepository,
+            ObjectMapper objectMapper,
+            @Qualifier("crdtPushExecutor") Executor crdtPushExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${crdt-channel.max-batch-size:200}") int maxBatchSize,
+            @Value("${crdt-channel.max-attempts:30}") int maxAttempts,
+            @Value("${crdt-channel.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${crdt-channel.max-retry-backoff:1m}") Duration maxRetryBackoff
+    ) {
+        this.transport = transport;
+        this.pendingEventRepository = pendingEventRepository;
+        this.objectMapper = objectMapper;
+        this.crdtPushExecutor = crdtPushExecutor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+
+        this.meterRegistry = meterRegistry;
+        this.batchSizes = DistributionSummary.builder("crdt.push.batch.size").register(meterRegistry);
+        this.pushDelay = Timer.builder("crdt.push.delay").description("이벤트 발생부터 CRDT 서버 전송까지 걸린 시간").register(meterRegistry);
+        this.parkedCounter = meterRegistry.counter("crdt.delivery.parked");
+        this.redeliveredCounter = meterRegistry.counter("crdt.delivery.redelivered");
+        this.droppedCounter = meterRegistry.counter("crdt.delivery.dropped");
+        this.deadCounter = meterRegistry.counter("crdt.delivery.dead");
+        this.applyFailedCounter = meterRegistry.counter("crdt.delivery.apply.failed");
+        this.deliveryLag = MultiGauge.builder("crdt.delivery.lag")
+                .description("워크스페이스별 가장 오래된 미전달 이벤트의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        meterRegistry.gauge("crdt.push.pending", queues, map -> map.values().stream().mapToInt(q -> q.events.size()).sum());
+    }
+
+    /**
+     * 이벤트를 워크스페이스 큐에 넣는다. 실제 전송은 다음 주기에 모아서 하고, 배치 크기만큼 쌓이면 바로 보낸다.
+     */
+    public void publish(Long workspaceId, CrdtEventType type, Long nodeId, Object payload) {
+        CrdtEvent event = new CrdtEvent(UUID.randomUUID().toString(), type, nodeId, payload);
+        PendingEvent pending = new PendingEvent(event, System.nanoTime());
+        // 큐 제거(removeIfIdle)와 겹치지 않도록 맵 갱신 안에서 추가
+        WorkspaceQueue queue = queues.compute(workspaceId, (id, existing) -> {
+            WorkspaceQueue target = existing != null ? existing : new WorkspaceQueue();
+            target.events.add(pending);
+            return target;
+        });
+
+        if (queue.events.size() >= maxBatchSize) {
+            schedule(workspaceId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${crdt-channel.flush-interval-ms:50}")
+    public void flushAll() {
+        long now = System.nanoTime();
+        List<MultiGauge.Row<?>> lagRows = new ArrayList<>();
+        queues.forEach((workspaceId, queue) -> {
+            long oldest = queue.oldestEventAt();
+            if (oldest != Long.MAX_VALUE) {
+                lagRows.add(MultiGauge.Row.of(Tags.of("workspace", workspaceId.toString()),
+                        (now - oldest) / 1_000_000_000.0));
+            }
+
+            if (queue.hasWork(now)) {
+                schedule(workspaceId);
+            } else {
+                removeIfIdle(workspaceId);
+            }
+        });
+        deliveryLag.register(lagRows, true);
+    }
+
+    // 재시작 전에 전달하지 못한 이벤트가 남은 워크스페이스는 보류 상태로 시작해 바로 재전송
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPending() {
+        long now = System.nanoTime();
+        LocalDateTime wallNow = LocalDateTime.now();
+        for (CrdtPendingEventRepository.PendingWorkspace pending : pendingEventRepository.findPendingWorkspaces()) {
+            long age = Duration.between(pending.getOldestCreatedAt(), wallNow).toNanos();
+            WorkspaceQueue queue = queues.computeIfAbsent(pending.getWorkspaceId(), id -> new WorkspaceQueue());
+            // 보류 상태는 sending 잠금 안에서만 바꿈 (이미 시작된 전송과 겹치지 않도록)
+            queue.sending.lock();
+            try {
+                queue.park(now - age, now);
+            } finally {
+                queue.sending.unlock();
+            }
+            schedule(pending.getWorkspaceId());
+        }
+    }
+
+    // 종료 시 남은 이벤트를 호출 스레드에서 모두 전송 (실패하면 DB에 저장되어 재시작 후 재전송)
+    @PreDestroy
+    public void flushOnShutdown() {
+        queues.keySet().forEach(this::flush);
+    }
+
+    // 같은 워크스페이스의 전송이 이미 대기 중이면 실행기에서 하나로 합쳐짐
+    private void schedule(Long workspaceId) {
+        crdtPushExecutor.execute(CoalescingTask.of(new FlushKey(workspaceId), () -> flush(workspaceId)));
+    }
+
+    void flush(Long workspaceId) {
+        WorkspaceQueue queue = queues.get(workspaceId);
+        // 다른 스레드가 이 워크스페이스를 전송 중이면 그 스레드가 남은 이벤트까지 이어서 보냄
+        if (queue == null || !queue.sending.tryLock()) {
+            return;
+        }
+        try {
+            // 보류 중이면 저장된 이벤트를 먼저 재전송하고, 아직 전달되지 않으면 새 이벤트도 그 뒤에 저장
+            if (queue.isParked() && !redeliver(workspaceId, queue)) {
+                persist(workspaceId, queue.drain(Integer.MAX_VALUE));
+                return;
+            }
+
+            List<PendingEvent> batch;
+            while (!(batch = queue.drain(maxBatchSize)).isEmpty()) {
+                List<CrdtEvent> rejected = new ArrayList<>();
+                if (!deliver(workspaceId, batch.stream().map(PendingEvent::event).toList(), rejected)) {
+                    persist(workspaceId, batch);
+                    persist(workspaceId, queue.drain(Integer.MAX_VALUE));
+                    queue.park(batch.get(0).enqueuedAt(), System.nanoTime());
+                    queue.retryLater(backoff(queue.attempts));
+                    return;
+                }
+                quarantine(workspaceId, batch.stream().filter(pending -> rejected.contains(pending.event())).toList());
+                recordDelay(batch.stream().map(PendingEvent::enqueuedAt).toList());
+            }
+        } finally {
+            queue.sending.unlock();
+        }
+    }
+
+    // 저장된 이벤트를 id 순서대로 재전송. 모두 전달되면 보류를 풀고 true를 반환한다.
+    private boolean redeliver(Long workspaceId, WorkspaceQueue queue) {
+        if (!queue.retryDue(System.nanoTime())) {
+            return false;
+        }
+        try {
+            List<CrdtPendingEvent> rows;
+            while (!(rows = pendingEventRepository.findByWorkspaceIdAndDeadAtIsNullOrderByIdAsc(workspaceId, Limit.of(maxBatchSize))).isEmpty()) {
+                Map<String, CrdtPendingEvent> rowsByEventId = new LinkedHashMap<>();
+                List<CrdtEvent> events = new ArrayList<>(rows.size());
+                for (CrdtPendingEvent row : rows) {
+                    CrdtEvent event = toEvent(row);
+                    if (event == null) {
+                        markDead(List.of(row), "invalid payload");
+                        continue;
+                    }
+                    rowsByEventId.put(event.id(), row);
+                    events.add(event);
+                }
+
+                List<CrdtEvent> rejected = new ArrayList<>();
+                if (!deliver(workspaceId, events, rejected)) {
+                    if (queue.attempts + 1 < maxAttempts) {
+                        queue.retryLater(backoff(queue.attempts));
+                        return false;
+                    }
+                    // 같은 묶음이 계속 실패하면 격리하고 다음 이벤트로 넘어감
+                    markDead(List.copyOf(rowsByEventId.values()), "max attempts exceeded");
+                    queue.resetAttempts();
+                    continue;
+                }
+                markDead(rejected.stream().map(event -> rowsByEventId.remove(event.id())).filter(Objects::nonNull).toList(),
+                        "rejected by CRDT server");
+                pendingEventRepository.deleteAllByIdInBatch(rowsByEventId.values().stream().map(CrdtPendingEvent::getId).toList());
+                redeliveredCounter.increment(rowsByEventId.size());
+            }
+        } catch (Exception e) {
+            log.error("CRDT 미전달 이벤트 재전송 실패 (workspace {})", workspaceId, e);
+            queue.retryLater(backoff(queue.attempts));
+            return false;
+        }
+        queue.unpark();
+        return true;
+    }
+
+    private boolean deliver(Long workspaceId, List<CrdtEvent> events, List<CrdtEvent> rejected) {
+        return deliver(workspaceId, events, rejected, true);
+    }
+
+    // 거부된 묶음은 반으로 나눠 다시 보내 거부되는 이벤트만 rejected에 모은다. 일시적인 실패면 false
+    // 반영에 실패한 이벤트는 retryFailed면 한 번 더 보내고, 아니면 rejected에 모은다.
+    private boolean deliver(Long workspaceId, List<CrdtEvent> events, List<CrdtEvent> rejected, boolean retryFailed) {
+        if (events.isEmpty()) {
+            return true;
+        }
+        List<CrdtEvent> failed = new ArrayList<>();
+        try {
+            if (!send(workspaceId, events, failed)) {
+                return false;
+            }
+        } catch (CrdtEventTransport.RejectedException e) {
+            if (events.size() == 1) {
+                log.error("CRDT 서버가 이벤트를 거부함 (workspace {}, {} {}): {}",
+                        workspaceId, events.get(0).type(), events.get(0).id(), e.getMessage());
+                rejected.add(events.get(0));
+                return true;
+            }
+            int half = events.size() / 2;
+            return deliver(workspaceId, events.subList(0, half), rejected, retryFailed)
+                    && deliver(workspaceId, events.subList(half, events.size()), rejected, retryFailed);
+        }
+        if (failed.isEmpty()) {
+            return true;
+        }
+        applyFailedCounter.increment(failed.size());
+        log.warn("CRDT 서버가 이벤트 {}건을 반영하지 못함 (workspace {}, 재전송 {}): {}", failed.size(), workspaceId,
+                retryFailed, failed.stream().map(CrdtEvent::id).toList());
+        if (!retryFailed) {
+            rejected.addAll(failed);
+            return true;
+        }
+        return deliver(workspaceId, failed, rejected, false);
+    }
+
+    private boolean send(Long workspaceId, List<CrdtEvent> events, List<CrdtEvent> failed) {
+        batchSizes.record(events.size());
+        long start = System.nanoTime();
+        String result = "success";
+        try {
+            failed.addAll(transport.send(workspaceId, events));
+            return true;
+        } catch (CrdtEventTransport.RejectedException e) {
+            result = "rejected";
+            throw e;
+        } catch (Exception e) {
+            result = "failure";
+            log.warn("CRDT 서버 전송 실패 (workspace {}, 이벤트 {}건): {}", workspaceId, events.size(), e.getMessage());
+            return false;
+        } finally {
+            Timer.builder("crdt.push.latency")
+                    .tag("transport", transport.name())
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 전달하지 못한 이벤트를 발생 순서대로 저장 (DB도 실패하면 유실되므로 별도로 기록)
+    private void persist(Long workspaceId, List<PendingEvent> events) {
+        persist(workspaceId, events, null, null);
+    }
+
+    // CRDT 서버가 거부한 새 이벤트는 재전송 대상이 아닌 격리 상태로 저장
+    private void quarantine(Long workspaceId, List<PendingEvent> events) {
+        if (!events.isEmpty()) {
+            persist(workspaceId, events, LocalDateTime.now(), "rejected by CRDT server");
+            deadCounter.increment(events.size());
+        }
+    }
+
+    private void persist(Long workspaceId, List<PendingEvent> events, LocalDateTime deadAt, String error) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        LocalDateTime wallNow = LocalDateTime.now();
+        try {
+            List<CrdtPendingEvent> rows = new ArrayList<>(events.size());
+            for (PendingEvent pending : events) {
+                rows.add(CrdtPendingEvent.builder()
+                        .workspaceId(workspaceId)
+                        .eventId(pending.event().id())
+                        .type(pending.event().type())
+                        .nodeId(pending.event().nodeId())
+                        .payload(objectMapper.writeValueAsString(pending.event().payload()))
+                        .createdAt(wallNow.minusNanos(now - pending.enqueuedAt()))
+                        .deadAt(deadAt)
+                        .lastError(error)
+                        .build());
+            }
+            pendingEventRepository.saveAll(rows);
+            if (deadAt == null) {
+                parkedCounter.increment(rows.size());
+            }
+        } catch (Exception e) {
+            droppedCounter.increment(events.size());
+            log.error("CRDT 미전달 이벤트 저장 실패, {}건 유실 (workspace {})", events.size(), workspaceId, e);
+        }
+    }
+
+    private void markDead(List<CrdtPendingEvent> rows, String reason) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        pendingEventRepository.markDead(rows.stream().map(CrdtPendingEvent::getId).toList(), LocalDateTime.now(), reason);
+        deadCounter.increment(rows.size());
+        log.error("CRDT 미전달 이벤트 {}건 격리 ({}): {}", rows.size(), reason,
+                rows.stream().map(CrdtPendingEvent::getEventId).toList());
+    }
+
+    // 읽을 수 없는 payload면 null
+    private CrdtEvent toEvent(CrdtPendingEvent row) {
+        try {
+            return new CrdtEvent(row.getEventId(), row.getType(), row.getNodeId(), objectMapper.readTree(row.getPayload()));
+        } catch (JsonProcessingException e) {
+            log.error("Invalid CRDT pending event payload {}", row.getId(), e);
+            return null;
+        }
+    }
+
+    private void recordDelay(List<Long> enqueuedAt) {
+        long sentAt = System.nanoTime();
+        enqueuedAt.forEach(at -> pushDelay.record(sentAt - at, TimeUnit.NANOSECONDS));
+    }
+
+    // 1s, 2s, 4s ... 최대 maxRetryBackoff
+    private Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    // 비어 있고 전송 중이나 보류 중이 아닌 큐만 제거 (publish와 같은 맵 갱신 안에서 판단)
+    private void removeIfIdle(Long workspaceId) {
+        queues.computeIfPresent(workspaceId,
+                (id, queue) -> queue.events.isEmpty() && !queue.isParked() && !queue.sending.isLocked() ? null : queue);
+    }
+
+    private static class WorkspaceQueue {
+        private final Queue<PendingEvent> events = new ConcurrentLinkedQueue<>();
+        private final ReentrantLock sending = new ReentrantLock();
+
+        // 보류 상태 (sending 잠금 안에서만 변경)
+        private volatile long parkedSince = Long.MAX_VALUE;
+        private volatile long nextAttemptAt;
+        private int attempts;
+
+        private List<PendingEvent> drain(int max) {
+            List<PendingEvent> batch = new ArrayList<>();
+            PendingEvent event;
+            while (batch.size() < max && (event = events.poll()) != null) {
+                batch.add(event);
+            }
+            return batch;
+        }
+
+        private boolean isParked() {
+            return parkedSince != Long.MAX_VALUE;
+        }
+
+        private void park(long oldestEventAt, long now) {
+            if (!isParked()) {
+                parkedSince = oldestEventAt;
+                nextAttemptAt = now;
+                attempts = 0;
+            }
+        }
+
+        private void retryLater(Duration backoff) {
+            attempts++;
+            nextAttemptAt = System.nanoTime() + backoff.toNanos();
+        }
+
+        private boolean retryDue(long now) {
+            return now - nextAttemptAt >= 0;
+        }
+
+        private void unpark() {
+            parkedSince = Long.MAX_VALUE;
+            attempts = 0;
+        }
+
+        private void resetAttempts() {
+            attempts = 0;
+        }
+
+        private boolean hasWork(long now) {
+            return !events.isEmpty() || (isParked() && retryDue(now));
+        }
+
+        // 보류 중이면 저장된 가장 오래된 이벤트, 아니면 큐의 첫 이벤트 시각
+        private long oldestEventAt() {
+            PendingEvent head = events.peek();
+            return Math.min(parkedSince, head != null ? head.enqueuedAt() : Long.MAX_VALUE);
+        }
+    }
+
+    private record FlushKey(Long workspaceId) {
+    }
+
+    private record PendingEvent(CrdtEvent event, long enqueuedAt) {
+    }
+
+    // id는 멱등 키 (재전송되어도 같은 값)
+    public record CrdtEvent(String id, CrdtEventType type, Long nodeId, Object payload) {
+    }
+}
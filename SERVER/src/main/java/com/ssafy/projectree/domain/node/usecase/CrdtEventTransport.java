@@ -0,0 +1,29 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import java.util.List;
+
+/**
+ * CrdtEventChannel이 모은 워크스페이스별 이벤트 묶음을 CRDT 서버로 전달하는 방식
+ * crdt-channel.transport 설정으로 선택한다. (http: 배치 API 호출, redis-stream: 워크스페이스별 Redis Stream)
+ */
+public interface CrdtEventTransport {
+
+    /**
+     * 같은 워크스페이스의 이벤트를 발생 순서대로 전달한다. 실패하면 예외를 던진다.
+     * 다시 보내도 받아들여지지 않는 묶음(너무 크거나 잘못된 이벤트)이면 RejectedException을 던진다.
+     *
+     * @return CRDT 서버가 받았지만 반영하지 못했다고 알려 온 이벤트 (알 수 없거나 없으면 빈 목록)
+     */
+    List<CrdtEventChannel.CrdtEvent> send(Long workspaceId, List<CrdtEventChannel.CrdtEvent> events);
+
+    // 메트릭 태그 값
+    String name();
+
+    // 재시도해도 성공하지 않는 전송 실패 (CrdtEventChannel은 묶음을 나눠 거부된 이벤트만 격리함)
+    class RejectedException extends RuntimeException {
+
+        public RejectedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * CRDT 서버(crdt-server.url)의 배치 API로 이벤트 묶음을 한 번에 전송
+ * CRDT 서버가 한 대일 때 사용하는 기본 방식
+ */
+@Component
+@ConditionalOnProperty(name = "crdt-channel.transport", havingValue = "http", matchIfMissing = true)
+public class HttpCrdtEventTransport implements CrdtEventTransport {
+
+    private final RestClient restClient;
+    private final String batchUri;
+
+    public HttpCrdtEventTransport(
+            RestClient restClient,
+            @Value("${crdt-server.url}") String crdtServerUrl,
+            @Value("${crdt-server.path-prefix}") String pathPrefix,
+            @Value("${crdt-server.batch-path:/batch}") String batchPath
+    ) {
+        this.restClient = restClient;
+        this.batchUri = UriComponentsBuilder.fromUriString(crdtServerUrl)
+                .path(pathPrefix)
+                .path(batchPath)
+                .build()
+                .toUriString();
+    }
+
+    // 4xx는 다시 보내도 같은 결과이므로 거부로 처리 (413: 본문이 너무 큼). 408, 429는 일시적인 오류라 재시도
+    // 응답의 failed는 반영에 실패한 이벤트의 (요청 내) 인덱스
+    @Override
+    public List<CrdtEventChannel.CrdtEvent> send(Long workspaceId, List<CrdtEventChannel.CrdtEvent> events) {
+        try {
+            BatchResponse response = restClient.post().uri(batchUri, workspaceId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new BatchRequest(events))
+                    .retrieve().body(BatchResponse.class);
+            if (response == null || response.failed() == null) {
+                return List.of();
+            }
+            return response.failed().stream()
+                    .filter(index -> index != null && index >= 0 && index < events.size())
+                    .map(events::get)
+                    .toList();
+        } catch (HttpClientErrorException e) {
+            int status = e.getStatusCode().value();
+            if (status == 408 || status == 429) {
+                throw e;
+            }
+            throw new RejectedException("CRDT server rejected batch with status " + status, e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    public record BatchRequest(List<CrdtEventChannel.CrdtEvent> events) {
+    }
+
+    public record BatchResponse(String status, List<Integer> failed) {
+    }
+}
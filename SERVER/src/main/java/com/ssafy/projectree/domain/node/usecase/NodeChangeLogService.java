@@ -0,0 +1,83 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import com.ssafy.projectree.domain.node.enums.NodeChangeType;
+import com.ssafy.projectree.domain.node.model.entity.NodeChangeLog;
+import com.ssafy.projectree.domain.node.model.repository.NodeChangeLogRepository;
+import com.ssafy.projectree.domain.node.model.repository.NodeRepository;
+import com.ssafy.projectree.domain.workspace.usecase.WorkspaceVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 노드 변경 이력 기록 및 보존 기간 관리
+ * 변경마다 워크스페이스 버전을 올리고, 그 버전으로 변경된 노드를 기록한다.
+ * 위치 변경은 버전을 올리지 않고 다음 버전 구간에 노드당 한 행만 기록하며, 다음 변경으로 버전이 올라갈 때 함께 조회된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NodeChangeLogService {
+
+    private final NodeChangeLogRepository nodeChangeLogRepository;
+    private final NodeRepository nodeRepository;
+    private final WorkspaceVersionService workspaceVersionService;
+
+    @Value("${node-change-log.retention:7d}")
+    private Duration retention;
+
+    @Transactional
+    public void record(Long workspaceId, NodeChangeType changeType, Collection<Long> nodeIds) {
+        if (workspaceId == null || nodeIds == null || nodeIds.isEmpty()) {
+            return;
+        }
+        long version = workspaceVersionService.bumpAndGet(workspaceId);
+        nodeChangeLogRepository.insertAll(workspaceId, version, nodeIds, changeType.name());
+    }
+
+    // nodeId 아래의 모든 노드를 삭제로 기록
+    @Transactional
+    public void recordSubtreeDeleted(Long workspaceId, Long nodeId) {
+        long version = workspaceVersionService.bumpAndGet(workspaceId);
+        nodeChangeLogRepository.insertSubtree(workspaceId, version, nodeId, NodeChangeType.DELETED.name());
+    }
+
+    // 위치 변경은 노드 ID만 전달되므로 소속 워크스페이스별로 나누어 기록
+    // 버전을 잠근 채 기록하므로, 버전이 올라가 이 구간이 조회될 때는 기록이 이미 커밋되어 있음
+    @Transactional
+    public void recordPositions(Collection<Long> nodeIds) {
+        if (nodeIds == null || nodeIds.isEmpty()) {
+            return;
+        }
+        for (Long workspaceId : nodeRepository.findWorkspaceIdsByIds(nodeIds)) {
+            long nextVersion = workspaceVersionService.lockVersion(workspaceId) + 1;
+            nodeChangeLogRepository.insertPositions(workspaceId, nextVersion, nodeIds);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<NodeChangeLog> findChanges(Long workspaceId, long since, long until) {
+        return nodeChangeLogRepository.findChanges(workspaceId, since, until);
+    }
+
+    /**
+     * 보존 기간이 지난 이력을 삭제한다.
+     * 삭제 전에 워크스페이스별 floor를 올려, 삭제된 구간을 요청한 클라이언트는 스냅샷을 받게 한다.
+     */
+    @Scheduled(cron = "${node-change-log.purge-cron:0 0 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        nodeChangeLogRepository.raiseFloorBefore(cutoff);
+        int deleted = nodeChangeLogRepository.deleteBefore(cutoff);
+        log.info("Purged {} node change logs older than {}", deleted, cutoff);
+    }
+}
@@ -5,161 +5,64 @@ import com.ssafy.projectree.domain.ai.dto.AiTechRecommendDto;
 import com.ssafy.projectree.domain.node.api.dto.CustomTechCreateDto;
 import com.ssafy.projectree.domain.node.api.dto.NodePositionUpdateDto;
 import com.ssafy.projectree.domain.node.api.dto.schema.NodeSchema;
+import com.ssafy.projectree.domain.node.enums.CrdtEventType;
 import com.ssafy.projectree.domain.node.model.repository.NodeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NodeCrdtService {
 
-    private final RestClient restClient;
     private final NodeRepository nodeRepository;
+    private final NodeChangeLogService nodeChangeLogService;
+    private final CrdtEventChannel crdtEventChannel;
 
-    @Value("${crdt-server.url}")
-    private String crdtServerUrl;
-
-    @Value("${crdt-server.path-prefix}")
-    private String pathPrefix;
-
-    @Value("${crdt-server.new-node-path}")
-    private String nodePath;
-
-    @Value("${crdt-server.new-custom-tech-path}")
-    private String customTechPath;
-
-    @Value("${crdt-server.new-tech-path}")
-    private String techPath;
-
-    @Value("${crdt-server.new-candidate-path}")
-    private String candidatePath;
-
-    @Async("nodePositionExecutor")
+    // NodePositionBuffer가 모아 둔 좌표를 저장 (저장 전 조회는 버퍼의 좌표가 덮어씀)
     @Transactional
-    public void savePositionAsync( List<NodePositionUpdateDto.NodePositionItem> nodes) {
-        try {
-            for (NodePositionUpdateDto.NodePositionItem dto : nodes) {
-                //https://ssafy.atlassian.net/browse/S14P11D107-286
-                // TODO 업데이트 요청이 너무 많아서 다른 방안을 찾아보아야 할 듯
-                // gpt 는 Spring Batch는 쓰지 말고, @Async + JDBC batchUpdate 또는
-                // PostgreSQL JSON bulk update가 정답이라 함
-                nodeRepository.updatePosition(
-                        dto.getNodeId(),
-                        dto.getPosition().getX(),
-                        dto.getPosition().getY()
-                );
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to async save node positions", e);
-        }
+    public void savePositions(List<NodePositionUpdateDto.NodePositionItem> nodes) {
+        //https://ssafy.atlassian.net/browse/S14P11D107-286
+        // 노드 수와 관계없이 배치 전체를 UPDATE ... FROM unnest 한 번으로 반영
+        nodeRepository.updatePositions(nodes);
+        nodeChangeLogService.recordPositions(nodes.stream()
+                .map(NodePositionUpdateDto.NodePositionItem::getNodeId)
+                .toList());
     }
 
-    @Async
+    // 생성/추천 결과는 워크스페이스별 채널에 넣어 순서대로 모아서 전송
     public void sendNodeCreationToCrdt(Long workspaceId, NodeSchema payload) {
-        String uriString = UriComponentsBuilder.fromUriString(crdtServerUrl)
-                .path(pathPrefix)
-                .path(nodePath)
-                .build()
-                .toUriString();
-
-        try {
-            restClient.post().uri(uriString, workspaceId)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(payload)
-                    .retrieve().toBodilessEntity();
-        } catch (Exception e) {
-            log.error("CRDT 서버 전송 실패: {}", e.getMessage());
-        }
+        crdtEventChannel.publish(workspaceId, CrdtEventType.NODE, payload.getId(), payload);
     }
 
-    @Async
     public void sendTechCreationToCrdt(Long workspaceId, Long nodeId, AiTechRecommendDto.Response response) {
-        String uriString = UriComponentsBuilder.fromUriString(crdtServerUrl)
-                .path(pathPrefix)
-                .path(techPath)
-                .build()
-                .toUriString();
-
-        sendNodeDataToCrdt(uriString, workspaceId, nodeId, response);
+        crdtEventChannel.publish(workspaceId, CrdtEventType.TECH, nodeId, response);
     }
 
-    @Async
     public void sendCustomTechCreationToCrdt(
             Long workspaceId,
             Long nodeId, CustomTechCreateDto.Response response) {
-        String uriString = UriComponentsBuilder.fromUriString(crdtServerUrl)
-                .path(pathPrefix)
-                .path(customTechPath)
-                .build()
-                .toUriString();
-
-        sendNodeDataToCrdt(uriString, workspaceId, nodeId, response);
+        crdtEventChannel.publish(workspaceId, CrdtEventType.CUSTOM_TECH, nodeId, response);
     }
 
-    @Async
     public void sendCandidatesCreationToCrdt(
             Long workspaceId,
             Long nodeId,
             AiCandidateCreateDto.Response response) {
-
-        String uriString = UriComponentsBuilder.fromUriString(crdtServerUrl)
-                .path(pathPrefix)
-                .path(candidatePath)
-                .build()
-                .toUriString();
-
-        sendNodeDataToCrdt(uriString, workspaceId, nodeId, response);
-
+        crdtEventChannel.publish(workspaceId, CrdtEventType.CANDIDATE, nodeId, response);
     }
 
+    // pending 해제도 같은 채널로 보내, 앞서 보낸 결과 이벤트보다 먼저 반영되지 않게 한다.
     public void sendTechPendingReset(Long workspaceId, Long nodeId) {
-        String uriString = UriComponentsBuilder.fromUriString(crdtServerUrl)
-                .path(pathPrefix)
-                .path(techPath + "/pending-reset")
-                .build()
-                .toUriString();
-
-        sendPendingReset(uriString, workspaceId, nodeId);
+        crdtEventChannel.publish(workspaceId, CrdtEventType.TECH_RESET, nodeId, Map.of());
     }
 
     public void sendCandidatePendingReset(Long workspaceId, Long nodeId) {
-        String uriString = UriComponentsBuilder.fromUriString(crdtServerUrl)
-                .path(pathPrefix)
-                .path(candidatePath + "/pending-reset")
-                .build()
-                .toUriString();
-
-        sendPendingReset(uriString, workspaceId, nodeId);
-    }
-
-    private void sendPendingReset(String uriString, Long workspaceId, Long nodeId) {
-        try {
-            restClient.post().uri(uriString, workspaceId, nodeId)
-                    .retrieve().toBodilessEntity();
-        } catch (Exception e) {
-            log.error("CRDT pending 리셋 실패: {}", e.getMessage());
-        }
-    }
-
-    private void sendNodeDataToCrdt(String uriString, Long workspaceId, Long nodeId, Object payload) {
-        try {
-            restClient.post().uri(uriString, workspaceId, nodeId)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(payload)
-                    .retrieve().toBodilessEntity();
-        } catch (Exception e) {
-            log.error("CRDT 서버 전송 실패: {}", e.getMessage());
-        }
+        crdtEventChannel.publish(workspaceId, CrdtEventType.CANDIDATE_RESET, nodeId, Map.of());
     }
 }
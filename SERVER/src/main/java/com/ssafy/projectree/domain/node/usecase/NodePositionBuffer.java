@@ -0,0 +1,236 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import com.ssafy.projectree.domain.node.api.dto.NodePositionUpdateDto;
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeSchema;
+import com.ssafy.projectree.domain.node.api.dto.schema.PositionSchema;
+import com.ssafy.projectree.domain.node.cache.NodeTreeCache;
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.async.CoalescingTask;
+import com.ssafy.projectree.global.exception.BusinessLogicException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 위치 변경을 모아 두었다가 주기적으로 DB에 반영하는 버퍼
+ * 드래그 중에는 같은 노드의 좌표가 계속 들어오므로 nodeId별 마지막 좌표만 남기고(Last-Write-Wins),
+ * 일정 주기 또는 쌓인 노드 수가 기준을 넘으면 한 번에 저장한다.
+ * 아직 저장되지 않은 좌표는 트리 조회 시 DB 결과에 덮어쓰므로(overlay) 조회 결과는 저장 주기와 관계없이 최신 좌표를 보여준다.
+ * 버퍼는 max-pending개의 노드를 넘지 않으며, 저장이 밀려 가득 차면 새 노드의 좌표 요청은 거절한다.
+ */
+@Slf4j
+@Component
+public class NodePositionBuffer {
+
+    private final Map<Long, NodePositionUpdateDto.NodePositionItem> pending = new ConcurrentHashMap<>();
+    // 버퍼에서 꺼내 저장 중인 좌표 (커밋 전 조회에도 보이도록 저장이 끝날 때까지 유지)
+    private final Map<Long, NodePositionUpdateDto.NodePositionItem> writing = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // pending에 새 노드를 추가하는 쪽(요청, 저장 실패 후 되돌리기)은 이 락 안에서 크기를 확인
+    private final ReentrantLock capacityLock = new ReentrantLock();
+
+    private final NodeCrdtService nodeCrdtService;
+    private final NodeTreeCache nodeTreeCache;
+    private final Executor nodePositionExecutor;
+    private final int flushThreshold;
+    private final int maxPending;
+    private final Duration fullWait;
+
+    private final Counter receivedCounter;
+    private final Counter writtenCounter;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    public NodePositionBuffer(
+            NodeCrdtService nodeCrdtService,
+            NodeTreeCache nodeTreeCache,
+            @Qualifier("nodePositionExecutor") Executor nodePositionExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${node-position-buffer.flush-threshold:500}") int flushThreshold,
+            @Value("${node-position-buffer.max-pending:10000}") int maxPending,
+            @Value("${node-position-buffer.full-wait:1s}") Duration fullWait
+    ) {
+        this.nodeCrdtService = nodeCrdtService;
+        this.nodeTreeCache = nodeTreeCache;
+        this.nodePositionExecutor = nodePositionExecutor;
+        this.flushThreshold = flushThreshold;
+        this.maxPending = maxPending;
+        this.fullWait = fullWait;
+
+        this.receivedCounter = meterRegistry.counter("node.position.buffer.received");
+        this.writtenCounter = meterRegistry.counter("node.position.buffer.written");
+        this.rejectedCounter = meterRegistry.counter("node.position.buffer.rejected");
+        this.droppedCounter = meterRegistry.counter("node.position.buffer.dropped");
+        meterRegistry.gaugeMapSize("node.position.buffer.pending", List.of(), pending);
+    }
+
+    /**
+     * 좌표를 버퍼에 넣는다. 버퍼가 가득 차면 호출한 스레드에서 먼저 저장을 시도하고(최대 full-wait),
+     * 그래도 자리가 없으면 NODE_POSITION_BUFFER_FULL_ERROR로 거절한다.
+     * 이미 버퍼에 있는 노드의 좌표는 덮어쓰기만 하므로 가득 차도 받는다.
+     */
+    public void offer(List<NodePositionUpdateDto.NodePositionItem> items) {
+        if (!hasRoom(items)) {
+            flushAndWait();
+        }
+
+        capacityLock.lock();
+        try {
+            if (!hasRoom(items)) {
+                rejectedCounter.increment(items.size());
+                throw new BusinessLogicException(ErrorCode.NODE_POSITION_BUFFER_FULL_ERROR);
+            }
+            for (NodePositionUpdateDto.NodePositionItem item : items) {
+                pending.put(item.getNodeId(), item);
+            }
+        } finally {
+            capacityLock.unlock();
+        }
+        receivedCounter.increment(items.size());
+        // 버퍼에 넣은 뒤 캐시를 갱신해야, 동시에 트리를 다시 읽는 쪽이 overlay 또는 갱신 중 하나로 반드시 최신 좌표를 봄
+        nodeTreeCache.patchPositions(items);
+
+        // 이미 예약된 flush가 있으면 실행기에서 하나로 합쳐짐
+        if (pending.size() >= flushThreshold) {
+            nodePositionExecutor.execute(CoalescingTask.of(NodePositionBuffer.class, this::flush));
+        }
+    }
+
+    /**
+     * 아직 DB에 저장되지 않은 좌표를 DB에서 읽은 노드에 덮어쓴다.
+     * 새로 조회한 (아직 공유되지 않은) 객체에만 사용한다.
+     */
+    public NodeSchema overlay(NodeSchema node) {
+        NodePositionUpdateDto.NodePositionItem item = pending.get(node.getId());
+        if (item == null) {
+            item = writing.get(node.getId());
+        }
+        if (item != null) {
+            node.setPosition(new PositionSchema(item.getPosition().getX(), item.getPosition().getY()));
+        }
+        return node;
+    }
+
+    @Scheduled(fixedDelayString = "${node-position-buffer.flush-interval-ms:500}")
+    public void flush() {
+        // 이미 다른 스레드가 저장 중이면 건너뜀 (남은 변경은 다음 주기에 저장)
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시에는 진행 중인 저장이 끝나길 기다린 뒤 남은 좌표를 모두 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+        if (!pending.isEmpty()) {
+            log.warn("{} node positions were not saved on shutdown", pending.size());
+        }
+    }
+
+    // 진행 중인 저장이 있으면 끝날 때까지 (최대 full-wait) 기다린 뒤 직접 저장
+    private void flushAndWait() {
+        try {
+            if (!flushLock.tryLock(fullWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 새로 추가될 노드 수만 크기에 더해짐 (같은 노드는 덮어씀)
+    private boolean hasRoom(List<NodePositionUpdateDto.NodePositionItem> items) {
+        long added = items.stream()
+                .map(NodePositionUpdateDto.NodePositionItem::getNodeId)
+                .distinct()
+                .filter(nodeId -> !pending.containsKey(nodeId))
+                .count();
+        return pending.size() + added <= maxPending;
+    }
+
+    private void writePending() {
+        List<NodePositionUpdateDto.NodePositionItem> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            nodeCrdtService.savePositions(batch);
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            log.error("Failed to save {} buffered node positions, retrying next interval", batch.size(), e);
+            requeue(batch);
+        } finally {
+            batch.forEach(item -> writing.remove(item.getNodeId(), item));
+        }
+    }
+
+    // 그 사이 들어온 더 최신 좌표는 덮어쓰지 않으며, 버퍼 크기를 넘는 좌표는 버림
+    private void requeue(List<NodePositionUpdateDto.NodePositionItem> batch) {
+        int dropped = 0;
+        capacityLock.lock();
+        try {
+            for (NodePositionUpdateDto.NodePositionItem item : batch) {
+                if (pending.containsKey(item.getNodeId())) {
+                    continue;
+                }
+                if (pending.size() >= maxPending) {
+                    dropped++;
+                    continue;
+                }
+                pending.put(item.getNodeId(), item);
+            }
+        } finally {
+            capacityLock.unlock();
+        }
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            log.warn("Dropped {} node positions because the buffer is full", dropped);
+        }
+    }
+
+    // 꺼낸 값과 같을 때만 제거하여, 꺼내는 도중 들어온 최신 좌표는 다음 저장 대상으로 남김
+    // 조회 시 좌표가 비지 않도록 writing에 먼저 넣은 뒤 pending에서 제거
+    private List<NodePositionUpdateDto.NodePositionItem> drain() {
+        List<NodePositionUpdateDto.NodePositionItem> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<Long, NodePositionUpdateDto.NodePositionItem> entry : pending.entrySet()) {
+            writing.put(entry.getKey(), entry.getValue());
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(entry.getValue());
+            } else {
+                writing.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return batch;
+    }
+}
@@ -4,16 +4,23 @@ import com.ssafy.projectree.domain.node.api.dto.CandidateCreateDto;
 import com.ssafy.projectree.domain.node.api.dto.CustomNodeDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeCreateDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeChangeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeSubtreeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeTreeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeUpdateDto;
 import com.ssafy.projectree.domain.node.api.dto.TechStackRecommendDto;
 import com.ssafy.projectree.domain.node.api.dto.schema.NodeSchema;
+import com.ssafy.projectree.domain.node.cache.NodeRoot;
+import com.ssafy.projectree.domain.node.cache.VersionedNodeTree;
 import com.ssafy.projectree.domain.node.model.entity.Node;
 import com.ssafy.projectree.domain.node.model.entity.ProjectNode;
 import com.ssafy.projectree.domain.workspace.api.dto.FunctionSpecificationDto;
 import com.ssafy.projectree.domain.workspace.api.dto.WorkspaceDto;
 import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
+import com.ssafy.projectree.global.api.response.CommonResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface NodeService {
@@ -21,6 +28,14 @@ public interface NodeService {
 
     NodeTreeReadDto.Response getNodeTree(Long workspaceId);
 
+    VersionedNodeTree getVersionedNodeTree(Long workspaceId);
+
+    NodeChangeReadDto.Response getNodeChanges(Long workspaceId, Long since);
+
+    NodeSubtreeReadDto.Response getSubtree(Long nodeId, int depth, Integer cursorDepth, Long cursorId, int size);
+
+    void writeNodeTree(CommonResponse<NodeTreeReadDto.Response> body, OutputStream out) throws IOException;
+
     WorkspaceDto.ProgressInfo getStatistics(Long workspaceId);
 
     NodeCreateDto.Response generateNode(Long candidateId, Long parentId, NodeCreateDto.Request request);
@@ -37,12 +52,16 @@ public interface NodeService {
 
     NodeSchema getNodeSchemaDetail(Long nodeId, Long parentId);
 
+    NodeRoot getNodeRoot(Long nodeId);
+
     void updateNodeDetail(Long nodeId, NodeUpdateDto.Request request);
 
     void selectNodeTech(Long nodeId, Long selectedTechId);
 
     void deleteNode(Long nodeId);
 
+    void moveNode(Long nodeId, Long newParentId);
+
     void deleteCandidate(Long candidateId);
 
     void createCustomTechStack(Long nodeId,Long workspaceId, Long techStackId);
@@ -1,5 +1,8 @@
 package com.ssafy.projectree.domain.node.usecase;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.ssafy.projectree.domain.ai.dto.AiCandidateCreateDto;
 import com.ssafy.projectree.domain.ai.dto.AiNodeCreateDto;
 import com.ssafy.projectree.domain.ai.dto.AiTechRecommendDto;
@@ -13,13 +16,23 @@ import com.ssafy.projectree.domain.node.api.dto.CustomNodeDto;
 import com.ssafy.projectree.domain.node.api.dto.CustomTechCreateDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeCreateDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeChangeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeSubtreeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeTreeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeUpdateDto;
 import com.ssafy.projectree.domain.node.api.dto.TechStackRecommendDto;
 import com.ssafy.projectree.domain.node.api.dto.schema.CandidateSchema;
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeDetailSchema;
 import com.ssafy.projectree.domain.node.api.dto.schema.NodeSchema;
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeSubtreeSchema;
 import com.ssafy.projectree.domain.node.api.dto.schema.NodeWithParentSchema;
 import com.ssafy.projectree.domain.node.api.dto.schema.PositionSchema;
+import com.ssafy.projectree.domain.node.cache.NodeDetailCache;
+import com.ssafy.projectree.domain.node.cache.NodeRoot;
+import com.ssafy.projectree.domain.node.cache.NodeRootCache;
+import com.ssafy.projectree.domain.node.cache.NodeTreeCache;
+import com.ssafy.projectree.domain.node.cache.VersionedNodeTree;
+import com.ssafy.projectree.domain.node.enums.NodeChangeType;
 import com.ssafy.projectree.domain.node.enums.NodeStatus;
 import com.ssafy.projectree.domain.node.enums.NodeType;
 import com.ssafy.projectree.domain.node.enums.Priority;
@@ -28,12 +41,14 @@ import com.ssafy.projectree.domain.node.model.entity.AdvanceNode;
 import com.ssafy.projectree.domain.node.model.entity.Candidate;
 import com.ssafy.projectree.domain.node.model.entity.EpicNode;
 import com.ssafy.projectree.domain.node.model.entity.Node;
+import com.ssafy.projectree.domain.node.model.entity.NodeChangeLog;
 import com.ssafy.projectree.domain.node.model.entity.ProjectNode;
 import com.ssafy.projectree.domain.node.model.entity.StoryNode;
 import com.ssafy.projectree.domain.node.model.entity.TaskNode;
 import com.ssafy.projectree.domain.node.model.repository.CandidateRepository;
 import com.ssafy.projectree.domain.node.model.repository.NodeRepository;
 import com.ssafy.projectree.domain.node.model.repository.NodeTreeRepository;
+import com.ssafy.projectree.domain.node.model.repository.custom.SubtreeNode;
 import com.ssafy.projectree.domain.tech.api.dto.schemas.TechStackSchema;
 import com.ssafy.projectree.domain.tech.model.entity.NodeTechStack;
 import com.ssafy.projectree.domain.tech.model.entity.TechStackInfo;
@@ -45,22 +60,41 @@ import com.ssafy.projectree.domain.workspace.api.dto.FunctionSpecificationDto;
 import com.ssafy.projectree.domain.workspace.api.dto.WorkspaceDto;
 import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
 import com.ssafy.projectree.domain.workspace.model.repository.TeamRepository;
+import com.ssafy.projectree.domain.workspace.usecase.WorkspaceProgressService;
+import com.ssafy.projectree.domain.workspace.usecase.WorkspaceVersionService;
 import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.api.response.CommonResponse;
 import com.ssafy.projectree.global.exception.BusinessLogicException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class NodeServiceImpl implements NodeService {
+
+    private static final int MAX_SUBTREE_DEPTH = 10;
+    private static final int MAX_SUBTREE_PAGE_SIZE = 500;
+    private static final int TREE_STREAM_BUFFER_SIZE = 64 * 1024;
+
     private final InferenceService inferenceService;
     private final NodeRepository nodeRepository;
     private final MemberRepository memberRepository;
@@ -71,49 +105,72 @@ public class NodeServiceImpl implements NodeService {
     private final TechStackInfoRepository techStackInfoRepository;
     private final TechVocabularyRepository techVocabularyRepository;
     private final TeamRepository teamRepository;
+    private final NodeTreeCache nodeTreeCache;
+    private final NodePositionBuffer nodePositionBuffer;
+    private final NodeRootCache nodeRootCache;
+    private final NodeDetailCache nodeDetailCache;
+    private final WorkspaceVersionService workspaceVersionService;
+    private final WorkspaceProgressService workspaceProgressService;
+    private final NodeChangeLogService nodeChangeLogService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${node-tree.read-timeout:10s}")
+    private Duration treeReadTimeout;
+
+    private NodeRoot findRootNode(Long nodeId) {
+        return nodeRootCache.get(nodeId, this::loadRootNode);
+    }
 
-    private ProjectNode findRootNode(Long nodeId) {
+    private NodeRoot loadRootNode(Long nodeId) {
         PageRequest limitOne = PageRequest.of(0, 1);
 
-        return nodeTreeRepository.findRoot(nodeId, limitOne).stream()
+        ProjectNode projectNode = nodeTreeRepository.findRoot(nodeId, limitOne).stream()
                 .findFirst().orElseThrow(() -> new BusinessLogicException(ErrorCode.NODE_NOT_FOUND_ERROR, "프로젝트 노드를 찾을 수 없습니다."));
+
+        return new NodeRoot(projectNode.getId(), projectNode.getWorkspace().getId());
+    }
+
+    @Override
+    public NodeRoot getNodeRoot(Long nodeId) {
+        return findRootNode(nodeId);
     }
 
     @Override
     public NodeReadDto.Response getNodeDetails(Long nodeId) {
-        Node node = nodeRepository.findById(nodeId)
-                .orElseThrow(() -> new BusinessLogicException(ErrorCode.NODE_NOT_FOUND_ERROR, "노드를 찾을 수 없습니다."));
-//        ProjectNode rootNode = findRootNode(node.getId());
+        return nodeDetailCache.get(nodeId, this::loadNodeDetails);
+    }
+
+    private NodeReadDto.Response loadNodeDetails(Long nodeId) {
+        // 노드/담당자/후보 1회 + 기술 스택 1회, 총 2회 조회
+        List<NodeDetailSchema> rows = nodeRepository.findNodeDetails(nodeId);
+        if (rows.isEmpty()) {
+            throw new BusinessLogicException(ErrorCode.NODE_NOT_FOUND_ERROR, "노드를 찾을 수 없습니다.");
+        }
 //TODO: 시큐리티 Utils 추가되면 member 입력
 //        teamRepository.isParticipant(rootNode.getWorkspace(), )
 
-        List<Candidate> candidates = candidateRepository.findByParent(node);
-        List<NodeTechStack> techStacks = nodeTechStackRepository.findAllByNode(node);
-
-        String comparison = null;
-        if (node instanceof TaskNode taskNode) {
-            comparison = taskNode.getComparison();
-        } else if (node instanceof AdvanceNode advanceNode) {
-            comparison = advanceNode.getComparison();
-        }
+        List<NodeTechStack> techStacks = nodeTechStackRepository.findAllWithDetailsByNodeId(nodeId);
 
+        NodeDetailSchema node = rows.get(0);
         return NodeReadDto.Response.builder()
                 .id(node.getId())
-                .assignee(node.getMember() != null ?
+                .assignee(node.getAssigneeId() != null ?
                         MemberSchema.builder()
-                                .id(node.getMember().getId())
-                                .nickname(node.getMember().getNickname())
+                                .id(node.getAssigneeId())
+                                .nickname(node.getAssigneeNickname())
                                 .build() : null)
                 .description(node.getDescription())
                 .note(node.getNote())
-                .candidates(candidates.stream()
-                        .map(candidate -> CandidateSchema.builder()
-                                .id(candidate.getId())
-                                .name(candidate.getName())
-                                .description(candidate.getDescription())
-                                .summary(candidate.getSummary())
-                                .isSelected(candidate.isSelected())
-                                .derivationId(candidate.getDerivationNode() == null ? null : candidate.getDerivationNode().getId())//N+1 문제 발생
+                .candidates(rows.stream()
+                        .filter(row -> row.getCandidateId() != null)
+                        .map(row -> CandidateSchema.builder()
+                                .id(row.getCandidateId())
+                                .name(row.getCandidateName())
+                                .description(row.getCandidateDescription())
+                                .summary(row.getCandidateSummary())
+                                .isSelected(Boolean.TRUE.equals(row.getCandidateSelected()))
+                                .derivationId(row.getDerivationId())
                                 .build())
                         .toList())
                 .techs(techStacks.stream()
@@ -128,107 +185,165 @@ public class NodeServiceImpl implements NodeService {
                                 .isSelected(techStack.getTechStackInfo().isSelected())
                                 .build())
                         .toList())
-                .comparison(comparison)
+                .comparison(node.getComparison())
                 .build();
     }
 
     @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
     public NodeTreeReadDto.Response getNodeTree(Long workspaceId) {
+        return getVersionedNodeTree(workspaceId).tree();
+    }
+
+    // 버전과 트리를 같은 스냅샷에서 읽어야 캐시에 저장되는 버전이 트리와 일치함 (REPEATABLE_READ)
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public VersionedNodeTree getVersionedNodeTree(Long workspaceId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        transaction.setTimeout(Math.toIntExact(Math.max(1, treeReadTimeout.toSeconds())));
+        return transaction.execute(status ->
+                nodeTreeCache.get(workspaceId, workspaceVersionService.getVersion(workspaceId), this::loadNodeTree));
+    }
+
+    private NodeTreeReadDto.Response loadNodeTree(Long workspaceId) {
         List<NodeWithParentSchema> flatNodes = nodeRepository.findAllFlatNodesByWorkspace(workspaceId);
         return NodeTreeReadDto.Response
                 .builder()
-                .tree(flatNodes.stream().map(node -> {
-                    log.info("node type : {} ", node.getNodeType());
-                    log.info("task type : {}", node.getTaskType());
-                    log.info("status type : {}", node.getStatus());
-                    log.info("position info : {} {}", node.getxPos(), node.getyPos());
-
-                    return NodeSchema.builder()
-                            .id(node.getId())
-                            .name(node.getName())
-                            .parentId(node.getParentId())//todo
-                            .nodeType(NodeType.fromClassName(node.getNodeType()))
-                            .data(NodeSchema.Body.builder()
-                                    .status(NodeStatus.valueOf(node.getStatus()))
-                                    .identifier(node.getIdentifier())
-                                    .difficult(node.getDifficult())//todo
-                                    .taskType(node.getTaskType() != null ? TaskType.valueOf(node.getTaskType()) : null) //todo
-                                    .priority(node.getPriority() != null ? Priority.valueOf(node.getPriority()) : null)
-                                    .build())
-                            .position(PositionSchema.builder()
-                                    .xPos(node.getxPos())
-                                    .yPos(node.getyPos())
-                                    .build()).build();
-                }).toList())
+                .tree(flatNodes.stream().map(this::toNodeSchema).toList())
                 .build();
     }
 
-    public WorkspaceDto.ProgressInfo getStatistics(Long workspaceId) {
+    /**
+     * 트리 조회 응답(공통 응답 포함)을 문자열로 만들지 않고 출력 스트림에 바로 직렬화한다.
+     * 트리는 getVersionedNodeTree로 미리 읽어 두므로, 응답을 쓰는 동안에는 트랜잭션이나 DB 커서를 잡지 않는다.
+     * 직렬화 중 오류가 나면 닫는 괄호를 채우지 않고 예외를 던져, 잘린 본문이 정상 응답으로 끝나지 않게 한다.
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void writeNodeTree(CommonResponse<NodeTreeReadDto.Response> body, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        // 노드마다 소켓에 쓰지 않고 버퍼 크기 단위로 나누어 전송 (첫 버퍼를 보내기 전 오류는 오류 응답으로 바뀔 수 있음)
+        BufferedOutputStream buffered = new BufferedOutputStream(out, TREE_STREAM_BUFFER_SIZE);
+        writer.writeValue(buffered, body);
+        buffered.flush();
+    }
 
-        List<NodeWithParentSchema> flatNodes = nodeRepository.findAllFlatNodesByWorkspace(workspaceId);
+    /**
+     * since 이후의 노드 변경분만 조회한다.
+     * since가 없거나, 보존 기간이 지나 이력이 삭제된 구간이거나, 현재 버전보다 크면 전체 스냅샷을 내려준다.
+     */
+    @Override
+    public NodeChangeReadDto.Response getNodeChanges(Long workspaceId, Long since) {
+        // 버전을 먼저 읽어야 이후 조회 결과가 이 버전보다 오래된 상태가 되지 않음
+        long currentVersion = workspaceVersionService.getVersion(workspaceId);
+
+        if (since == null || since <= 0 || since > currentVersion
+                || since < workspaceVersionService.getChangeLogFloor(workspaceId)) {
+            // 캐시는 커밋 직후 잠시 이전 트리를 가질 수 있으므로 스냅샷은 DB에서 직접 조회
+            return NodeChangeReadDto.Response.builder()
+                    .sequence(currentVersion)
+                    .snapshot(true)
+                    .nodes(loadNodeTree(workspaceId).getTree())
+                    .deletedNodeIds(List.of())
+                    .build();
+        }
 
-        // 통계 계산
-        int totalCount = flatNodes.size();
-        int p0Total = 0, p0Completed = 0;
-        int p1Total = 0, p1Completed = 0;
-        int p2Total = 0, p2Completed = 0;
-
-        for (NodeWithParentSchema node : flatNodes) {
-            Priority priority = node.getPriority() != null ? Priority.valueOf(node.getPriority()) : null;
-            boolean isCompleted = "DONE".equals(node.getStatus());
-
-            if (priority != null) {
-                switch (priority) {
-                    case P0:
-                        p0Total++;
-                        if (isCompleted) p0Completed++;
-                        break;
-                    case P1:
-                        p1Total++;
-                        if (isCompleted) p1Completed++;
-                        break;
-                    case P2:
-                        p2Total++;
-                        if (isCompleted) p2Completed++;
-                        break;
-                }
-            }
+        // 노드별 마지막 변경만 반영
+        Map<Long, NodeChangeType> lastChanges = new LinkedHashMap<>();
+        for (NodeChangeLog change : nodeChangeLogService.findChanges(workspaceId, since, currentVersion)) {
+            lastChanges.put(change.getNodeId(), change.getChangeType());
         }
 
-        WorkspaceDto.PriorityProgress p0 = WorkspaceDto.PriorityProgress
-                .builder()
-                .total(p0Total)
-                .completed(p0Completed)
+        List<Long> deletedNodeIds = new ArrayList<>();
+        List<Long> changedNodeIds = new ArrayList<>();
+        lastChanges.forEach((nodeId, changeType) -> {
+            if (changeType == NodeChangeType.DELETED) {
+                deletedNodeIds.add(nodeId);
+            } else {
+                changedNodeIds.add(nodeId);
+            }
+        });
+
+        List<NodeSchema> nodes = changedNodeIds.isEmpty() ? List.of()
+                : nodeRepository.findFlatNodesByWorkspaceAndIds(workspaceId, changedNodeIds).stream()
+                .map(this::toNodeSchema)
+                .toList();
+
+        return NodeChangeReadDto.Response.builder()
+                .sequence(currentVersion)
+                .snapshot(false)
+                .nodes(nodes)
+                .deletedNodeIds(deletedNodeIds)
                 .build();
+    }
 
-        WorkspaceDto.PriorityProgress p1 = WorkspaceDto.PriorityProgress
-                .builder()
-                .total(p1Total)
-                .completed(p1Completed)
+    /**
+     * 노드의 하위 노드를 depth 단계까지 조회한다.
+     * 넓은 레벨은 (깊이, 노드 ID) 기준 키셋 페이지네이션으로 나누어 내려주며, 부모는 항상 자식보다 먼저 내려간다.
+     */
+    @Override
+    public NodeSubtreeReadDto.Response getSubtree(Long nodeId, int depth, Integer cursorDepth, Long cursorId, int size) {
+        if (!nodeRepository.existsById(nodeId)) {
+            throw new BusinessLogicException(ErrorCode.NODE_NOT_FOUND_ERROR);
+        }
+        int maxDepth = Math.clamp(depth, 1, MAX_SUBTREE_DEPTH);
+        int pageSize = Math.clamp(size, 1, MAX_SUBTREE_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<NodeSubtreeSchema> rows = nodeRepository.findSubtreeNodes(nodeId, maxDepth,
+                cursorDepth != null ? cursorDepth : 0, cursorId != null ? cursorId : 0L, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<NodeSubtreeSchema> page = hasNext ? rows.subList(0, pageSize) : rows;
+        NodeSubtreeSchema last = hasNext ? page.get(page.size() - 1) : null;
+
+        return NodeSubtreeReadDto.Response.builder()
+                .nodes(page.stream().map(row -> {
+                    NodeSchema schema = toNodeSchema(row);
+                    schema.setChildCount(row.getChildCount());
+                    return schema;
+                }).toList())
+                .nextCursorDepth(last != null ? last.getDepth() : null)
+                .nextCursorId(last != null ? last.getId() : null)
+                .hasNext(hasNext)
                 .build();
+    }
 
-        WorkspaceDto.PriorityProgress p2 = WorkspaceDto.PriorityProgress
-                .builder()
-                .total(p2Total)
-                .completed(p2Completed)
-                .build();
+    private NodeSchema toNodeSchema(NodeWithParentSchema node) {
+        log.debug("node type : {}, task type : {}, status type : {}, position info : {} {}",
+                node.getNodeType(), node.getTaskType(), node.getStatus(), node.getxPos(), node.getyPos());
 
-        WorkspaceDto.ProgressInfo statistics = WorkspaceDto.ProgressInfo
-                .builder()
-                .p0(p0)
-                .p1(p1)
-                .p2(p2)
-                .build();
+        // 버퍼에만 있고 아직 저장되지 않은 좌표가 있으면 그 좌표로 응답
+        return nodePositionBuffer.overlay(NodeSchema.builder()
+                .id(node.getId())
+                .name(node.getName())
+                .parentId(node.getParentId())//todo
+                .nodeType(NodeType.fromClassName(node.getNodeType()))
+                .data(NodeSchema.Body.builder()
+                        .status(NodeStatus.valueOf(node.getStatus()))
+                        .identifier(node.getIdentifier())
+                        .difficult(node.getDifficult())//todo
+                        .taskType(node.getTaskType() != null ? TaskType.valueOf(node.getTaskType()) : null) //todo
+                        .priority(node.getPriority() != null ? Priority.valueOf(node.getPriority()) : null)
+                        .build())
+                .position(PositionSchema.builder()
+                        .xPos(node.getxPos())
+                        .yPos(node.getyPos())
+                        .build()).build());
+    }
 
-        return statistics;
+    public WorkspaceDto.ProgressInfo getStatistics(Long workspaceId) {
+        // 노드 변경 시 함께 갱신되는 집계 테이블에서 조회 (노드 수와 무관)
+        return workspaceProgressService.getProgress(workspaceId);
     }
 
     @Override
     public NodeCreateDto.Response generateNode(Long candidateId, Long parentId, NodeCreateDto.Request request) {
 
-        ProjectNode projectNode = findRootNode(parentId);
-
-        Long workspaceId = projectNode.getWorkspace().getId();
+        Long workspaceId = findRootNode(parentId).workspaceId();
 
         AiNodeCreateDto.Response response = inferenceService.generateNode(AiNodeCreateDto.Request.builder()
                 .candidateId(candidateId)
@@ -241,6 +356,11 @@ public class NodeServiceImpl implements NodeService {
 
         NodeSchema nodeSchema = getNodeSchemaDetail(response.getNodeId(), response.getParentId());
         nodeSchema.setPreviewNodeId(request.getPreviewNodeId());
+        nodeTreeCache.evict(workspaceId);
+        // 후보에 파생 노드가 연결되므로 후보를 가진 부모 노드의 상세가 바뀜
+        nodeDetailCache.evict(parentId);
+        nodeChangeLogService.record(workspaceId, NodeChangeType.CREATED, List.of(response.getNodeId()));
+        workspaceProgressService.nodesCreated(workspaceId, List.of(response.getNodeId()));
         nodeCrdtService.sendNodeCreationToCrdt(workspaceId, nodeSchema);
 
         return NodeCreateDto.Response.builder().nodeId(response.getNodeId()).build();
@@ -273,6 +393,7 @@ public class NodeServiceImpl implements NodeService {
             return;
         }
 
+        List<SubtreeNode> epicNodes = new ArrayList<>();
         for (FunctionSpecificationDto.EpicInfo info : epics) {
 
             EpicNode epicNode = new EpicNode();
@@ -284,21 +405,27 @@ public class NodeServiceImpl implements NodeService {
             epicNode.setXPos(0.0);
             epicNode.setYPos(0.0);
 
-            nodeRepository.saveWithParent(projectNode.getId(), epicNode);
-
+            epicNodes.add(new SubtreeNode(epicNode, 1));
         }
 
+        // 에픽 수와 관계없이 고정된 횟수의 쿼리로 저장
+        nodeRepository.saveSubtree(projectNode.getId(), epicNodes);
+
+        List<Long> epicIds = epicNodes.stream().map(epic -> epic.node().getId()).toList();
+        nodeTreeCache.evict(workspace.getId());
+        nodeChangeLogService.record(workspace.getId(), NodeChangeType.CREATED, epicIds);
+        workspaceProgressService.nodesCreated(workspace.getId(), epicIds);
     }
 
     @Override
     public CandidateCreateDto.Response generateCandidate(Long parentId) {
-        ProjectNode projectNode = findRootNode(parentId);
+        Long workspaceId = findRootNode(parentId).workspaceId();
         Node node = nodeRepository.findById(parentId).orElseThrow(() -> new BusinessLogicException(ErrorCode.NODE_NOT_FOUND_ERROR));
         if (node.getCandidateLimit() <= candidateRepository.countCandidateByParent(node)) {
             throw new BusinessLogicException(ErrorCode.CANDIDATE_GENERATE_LIMIT, "후보 노드 생성 개수를 초과하였습니다.");
         }
         AiCandidateCreateDto.Response aiCandidate = inferenceService.generateCandidate(AiCandidateCreateDto.Request.builder()
-                .workspaceId(projectNode.getWorkspace().getId())
+                .workspaceId(workspaceId)
                 .nodeId(parentId)
                 .candidateCount(3)
                 .build());
@@ -307,7 +434,9 @@ public class NodeServiceImpl implements NodeService {
 //                candidates.stream().map(c -> AiCandidateSchema.builder().id(c.getId()).name(c.getName()).description(c.getDescription()).summary(c.getSummary()).build()).toList()
 //        ).build();
 
-        nodeCrdtService.sendCandidatesCreationToCrdt(projectNode.getWorkspace().getId(), parentId, aiCandidate);
+        workspaceVersionService.bump(workspaceId);
+        nodeDetailCache.evict(parentId);
+        nodeCrdtService.sendCandidatesCreationToCrdt(workspaceId, parentId, aiCandidate);
 
         return CandidateCreateDto.Response.builder()
                 .nodeId(parentId)
@@ -324,6 +453,9 @@ public class NodeServiceImpl implements NodeService {
         node.setYPos(dto.getYPos());
         node.setStatus(NodeStatus.TODO);
         nodeRepository.saveWithParent(dto.getParentNodeId(), node);
+        nodeTreeCache.evict(dto.getWorkspaceId());
+        nodeChangeLogService.record(dto.getWorkspaceId(), NodeChangeType.CREATED, List.of(node.getId()));
+        workspaceProgressService.nodesCreated(dto.getWorkspaceId(), List.of(node.getId()));
 
         NodeSchema nodeSchema = NodeSchema.convertToSchema(node, dto.getParentNodeId());
         nodeCrdtService.sendNodeCreationToCrdt(dto.getWorkspaceId(), nodeSchema);
@@ -350,20 +482,20 @@ public class NodeServiceImpl implements NodeService {
 
     @Override
     public TechStackRecommendDto.Response recommendTechStack(Long nodeId) {
-        ProjectNode projectNode = findRootNode(nodeId);
+        Long workspaceId = findRootNode(nodeId).workspaceId();
         Class<? extends Node> nodeClass = nodeRepository.findNodeTypeById(nodeId).orElseThrow(() -> new BusinessLogicException(ErrorCode.NODE_NOT_FOUND_ERROR, "노드를 찾을 수 없습니다"));
 
         if (!(nodeClass.equals(TaskNode.class) || nodeClass.equals(AdvanceNode.class))) {
             throw new BusinessLogicException(ErrorCode.NODE_TYPE_NOT_SUPPORT_ERROR, "해당 작업은 Task와 Advance 노드에서만 수행할 수 있습니다.");
         }
 
-        Long workspaceId = projectNode.getWorkspace().getId();
-
         AiTechRecommendDto.Response response = inferenceService.recommendTechStack(AiTechRecommendDto.Request.builder()
                 .nodeId(nodeId)
                 .workspaceId(workspaceId)
                 .build());
 
+        workspaceVersionService.bump(workspaceId);
+        nodeDetailCache.evict(nodeId);
         nodeCrdtService.sendTechCreationToCrdt(workspaceId,
                 nodeId, response);
 
@@ -375,7 +507,8 @@ public class NodeServiceImpl implements NodeService {
     @Override
     @Transactional
     public void updateNodeDetail(Long nodeId, NodeUpdateDto.Request request) {
-        Node node = nodeRepository.findById(nodeId)
+        // 아래에서 읽는 이전 상태/우선순위로 진행도 집계를 증감하므로 커밋까지 행을 잠금
+        Node node = nodeRepository.findByIdForUpdate(nodeId)
                 .orElseThrow(() -> new BusinessLogicException(ErrorCode.NODE_NOT_FOUND_ERROR));
 
         if (request.getDescription() != null) node.setDescription(request.getDescription());
@@ -388,15 +521,44 @@ public class NodeServiceImpl implements NodeService {
             }
         }
 
+        Priority oldPriority = node.getPriority();
+        NodeStatus oldStatus = node.getStatus();
         if (request.getStatus() != null) node.setStatus(request.getStatus());
         if (request.getPriority() != null) node.setPriority(request.getPriority());
         if (request.getNote() != null) node.setNote(request.getNote());
 
         if (request.getAssignee() != null) {
-            Member assignee = memberRepository.findById(request.getAssignee())
+            Member member = memberRepository.findById(request.getAssignee())
                     .orElseThrow(() -> new BusinessLogicException(ErrorCode.USER_NOT_FOUND_ERROR));
-            node.setMember(assignee);
+            node.setMember(member);
         }
+
+        // 상세에 노출되는 값(설명, 메모, 담당자)은 캐시된 상세에 바로 반영
+        // 커밋 이후 세션 밖에서 실행되므로 필요한 값은 미리 꺼내 둔다.
+        MemberSchema assignee = request.getAssignee() != null ?
+                MemberSchema.builder()
+                        .id(node.getMember().getId())
+                        .nickname(node.getMember().getNickname())
+                        .build() : null;
+        String description = node.getDescription();
+        String note = node.getNote();
+        nodeDetailCache.update(nodeId, cached -> NodeReadDto.Response.builder()
+                .id(cached.getId())
+                .assignee(assignee != null ? assignee : cached.getAssignee())
+                .description(description)
+                .note(note)
+                .candidates(cached.getCandidates())
+                .techs(cached.getTechs())
+                .comparison(cached.getComparison())
+                .build());
+
+        Long workspaceId = findRootNode(nodeId).workspaceId();
+        // 트리에 노출되는 값(상태, 우선순위, 난이도)이 바뀐 경우에만 트리 캐시를 무효화
+        if (request.getStatus() != null || request.getPriority() != null || request.getDifficult() != null) {
+            nodeTreeCache.evict(workspaceId);
+        }
+        workspaceProgressService.nodeChanged(workspaceId, oldPriority, oldStatus, node.getPriority(), node.getStatus());
+        nodeChangeLogService.record(workspaceId, NodeChangeType.UPDATED, List.of(nodeId));
     }
 
     @Transactional
@@ -410,6 +572,8 @@ public class NodeServiceImpl implements NodeService {
         techStackInfo.setSelected(true);
 
         techStackInfoRepository.save(techStackInfo);
+        workspaceVersionService.bump(findRootNode(nodeId).workspaceId());
+        nodeDetailCache.evict(nodeId);
     }
 
     @Override
@@ -429,9 +593,46 @@ public class NodeServiceImpl implements NodeService {
             return;
         }
 
+        Long workspaceId = findRootNode(nodeId).workspaceId();
+        nodeTreeCache.evict(workspaceId);
+        nodeChangeLogService.recordSubtreeDeleted(workspaceId, nodeId);
+        List<Long> descendantIds = nodeTreeRepository.findDescendantIds(nodeId);
+        nodeRootCache.evictAll(descendantIds);
+        nodeDetailCache.evictAll(descendantIds);
+        nodeDetailCache.evictDerivedFrom(descendantIds);
+
+        //서브트리 전체를 클로저 테이블 서브쿼리로 한 번에 처리 (하위 노드 수와 무관하게 고정 4회)
+        workspaceProgressService.subtreeDeleting(workspaceId, nodeId);
+        candidateRepository.disConnectDerivationInSubtree(nodeId);
+        candidateRepository.deleteAllInSubtree(nodeId);
+        nodeTechStackRepository.deleteAllInSubtree(nodeId);
         nodeRepository.deleteNodeAndDescendants(nodeId);
-        candidateRepository.deleteByParentId(nodeId);
-        candidateRepository.disConnectDerivation(nodeId);
+    }
+
+    @Override
+    public void moveNode(Long nodeId, Long newParentId) {
+        Node node = nodeRepository.findById(nodeId)
+                .orElseThrow(() -> new BusinessLogicException(ErrorCode.NODE_NOT_FOUND_ERROR));
+        if (!nodeRepository.existsById(newParentId)) {
+            throw new BusinessLogicException(ErrorCode.NODE_NOT_FOUND_ERROR, "이동할 부모 노드를 찾을 수 없습니다.");
+        }
+
+        if (node instanceof ProjectNode) {
+            throw new BusinessLogicException(ErrorCode.NODE_MOVE_INVALID_ERROR, "프로젝트 노드는 이동할 수 없습니다.");
+        }
+        //자기 자신이나 자신의 하위 노드 아래로 옮기면 순환이 생김
+        if (nodeTreeRepository.isAncestorOf(nodeId, newParentId)) {
+            throw new BusinessLogicException(ErrorCode.NODE_MOVE_INVALID_ERROR, "자신의 하위 노드로는 이동할 수 없습니다.");
+        }
+
+        Long workspaceId = findRootNode(nodeId).workspaceId();
+        if (!workspaceId.equals(findRootNode(newParentId).workspaceId())) {
+            throw new BusinessLogicException(ErrorCode.NODE_MOVE_INVALID_ERROR, "다른 워크스페이스의 노드로는 이동할 수 없습니다.");
+        }
+
+        nodeRepository.moveSubtree(nodeId, newParentId);
+        nodeTreeCache.evict(workspaceId);
+        nodeChangeLogService.record(workspaceId, NodeChangeType.MOVED, List.of(nodeId));
     }
 
     @Override
@@ -440,6 +641,8 @@ public class NodeServiceImpl implements NodeService {
                 .orElseThrow(() -> new BusinessLogicException(ErrorCode.CANDIDATE_NOT_FOUND_ERROR));
 
         candidateRepository.delete(candidate);
+        workspaceVersionService.bump(findRootNode(candidate.getParent().getId()).workspaceId());
+        nodeDetailCache.evict(candidate.getParent().getId());
     }
 
     @Transactional
@@ -469,6 +672,8 @@ public class NodeServiceImpl implements NodeService {
         nodeTechStack.setRecommended(false);
 
         nodeTechStackRepository.save(nodeTechStack);
+        workspaceVersionService.bump(workspaceId);
+        nodeDetailCache.evict(nodeId);
 
         nodeCrdtService.sendCustomTechCreationToCrdt(workspaceId, nodeId, CustomTechCreateDto.Response.builder()
                 .id(nodeTechStack.getId())
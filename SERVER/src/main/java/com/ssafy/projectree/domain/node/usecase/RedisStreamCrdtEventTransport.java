@@ -0,0 +1,109 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 워크스페이스별 Redis Stream(crdt:workspace:{id}:events)에 이벤트를 추가
+ * CRDT 서버가 여러 대일 때, 해당 워크스페이스의 Y.Doc을 가진 인스턴스가 컨슈머 그룹으로 읽어 간다.
+ * 이벤트는 CBOR로 직렬화해 e 필드 하나에 담고, 한 묶음의 XADD는 파이프라인으로 한 번에 보낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "crdt-channel.transport", havingValue = "redis-stream")
+public class RedisStreamCrdtEventTransport implements CrdtEventTransport {
+
+    private static final byte[] EVENT_FIELD = "e".getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CBORMapper cborMapper = new CBORMapper();
+    // 컨슈머 그룹을 이미 만든 스트림 (서버당 워크스페이스마다 한 번만 XGROUP CREATE)
+    private final Set<String> preparedStreams = ConcurrentHashMap.newKeySet();
+
+    private final String consumerGroup;
+    private final XAddOptions addOptions;
+
+    public RedisStreamCrdtEventTransport(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${crdt-channel.redis.consumer-group:crdt}") String consumerGroup,
+            @Value("${crdt-channel.redis.max-len:10000}") long maxLen
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.consumerGroup = consumerGroup;
+        // 처리된 오래된 이벤트는 대략적인 길이 제한으로 정리
+        this.addOptions = XAddOptions.maxlen(maxLen).approximateTrimming(true);
+    }
+
+    public static String streamKey(Long workspaceId) {
+        return "crdt:workspace:" + workspaceId + ":events";
+    }
+
+    // 스트림에 추가하면 끝이므로 반영 결과는 알 수 없음
+    @Override
+    public List<CrdtEventChannel.CrdtEvent> send(Long workspaceId, List<CrdtEventChannel.CrdtEvent> events) {
+        String key = streamKey(workspaceId);
+        prepareStream(key);
+
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> payloads = new ArrayList<>(events.size());
+        for (CrdtEventChannel.CrdtEvent event : events) {
+            payloads.add(encode(event));
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] payload : payloads) {
+                connection.streamCommands().xAdd(
+                        StreamRecords.rawBytes(Map.of(EVENT_FIELD, payload)).withStreamKey(rawKey), addOptions);
+            }
+            return null;
+        });
+        return List.of();
+    }
+
+    @Override
+    public String name() {
+        return "redis-stream";
+    }
+
+    // 첫 이벤트부터 읽을 수 있도록 스트림과 컨슈머 그룹을 먼저 만든다. (이미 있으면 BUSYGROUP 오류)
+    private void prepareStream(String key) {
+        if (preparedStreams.contains(key)) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.streamCommands().xGroupCreate(
+                    key.getBytes(StandardCharsets.UTF_8), consumerGroup, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            if (!String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage()).startsWith("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        preparedStreams.add(key);
+    }
+
+    private byte[] encode(CrdtEventChannel.CrdtEvent event) {
+        try {
+            return cborMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new RejectedException("Failed to encode CRDT event " + event.type(), e);
+        }
+    }
+}
@@ -12,6 +12,17 @@ import java.util.List;
 public interface NodeTechStackRepository extends JpaRepository<NodeTechStack, Long> {
     List<NodeTechStack> findAllByNode(Node node);
 
+    // 노드 상세 조회용: 기술 용어와 기술 정보까지 한 번에 조회
+    @Query("""
+        select nts
+        from NodeTechStack nts
+        left join fetch nts.techVocabulary
+        left join fetch nts.techStackInfo
+        where nts.node.id = :nodeId
+        order by nts.id
+    """)
+    List<NodeTechStack> findAllWithDetailsByNodeId(@Param("nodeId") Long nodeId);
+
     @Modifying(clearAutomatically = true)
     @Query("""
         update TechStackInfo tsi
@@ -23,4 +34,16 @@ public interface NodeTechStackRepository extends JpaRepository<NodeTechStack, Lo
         )
     """)
     void unselectAllByNodeId(@Param("nodeId") Long nodeId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update NodeTechStack nts
+        set nts.deletedAt = CURRENT_TIMESTAMP
+        where nts.node.id in (
+            select nt.descendant.id
+            from NodeTree nt
+            where nt.ancestor.id = :nodeId
+        )
+    """)
+    void deleteAllInSubtree(@Param("nodeId") Long nodeId);
 }
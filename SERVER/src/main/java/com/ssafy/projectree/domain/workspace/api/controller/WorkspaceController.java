@@ -14,6 +14,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -49,7 +50,10 @@ public class WorkspaceController implements WorkspaceDocsController {
     }
 
     @Override
-    public CommonResponse<?> details(@AuthenticationPrincipal Member member, Long workspaceId) {
+    public CommonResponse<?> details(@AuthenticationPrincipal Member member, Long workspaceId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(workspaceService.getDetailsETag(member, workspaceId))) {
+            return null;
+        }
         return CommonResponse.success(SuccessCode.SUCCESS, workspaceService.details(member, workspaceId));
     }
 
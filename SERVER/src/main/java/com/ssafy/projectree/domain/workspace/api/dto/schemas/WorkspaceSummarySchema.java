@@ -0,0 +1,25 @@
+package com.ssafy.projectree.domain.workspace.api.dto.schemas;
+
+import com.ssafy.projectree.domain.workspace.enums.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 워크스페이스 목록(대시보드) 조회용 프로젝션
+ * 워크스페이스 정보, 팀원 수, 내 역할, 우선순위별 진행도를 한 행으로 조회한다.
+ */
+public interface WorkspaceSummarySchema {
+    Long getWorkspaceId();
+    String getName();
+    String getDescription();
+    Long getTotalMembers();
+    Role getRole();
+    LocalDateTime getUpdatedAt();
+
+    Long getP0Total();
+    Long getP0Completed();
+    Long getP1Total();
+    Long getP1Completed();
+    Long getP2Total();
+    Long getP2Completed();
+}
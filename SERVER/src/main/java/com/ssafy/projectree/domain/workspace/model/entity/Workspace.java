@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -50,5 +51,15 @@ public class Workspace extends BaseEntity {
 
 	@Column(name = "identifier_prefix", length = 20, nullable = false)
 	private String identifierPrefix;
+
+	//변경 버전 (ETag 용도), 벌크 UPDATE로만 증가시키므로 엔티티 저장 시에는 쓰지 않음
+	@ColumnDefault("0")
+	@Column(name = "content_version", nullable = false, insertable = false, updatable = false)
+	private long contentVersion;
+
+	//보존 기간이 지나 삭제된 노드 변경 이력의 최대 버전 (이 값 이하의 시퀀스로는 증분 조회 불가)
+	@ColumnDefault("0")
+	@Column(name = "change_log_floor", nullable = false, insertable = false, updatable = false)
+	private long changeLogFloor;
 }
 
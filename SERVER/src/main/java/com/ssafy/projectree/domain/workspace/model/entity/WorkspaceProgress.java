@@ -0,0 +1,45 @@
+package com.ssafy.projectree.domain.workspace.model.entity;
+
+import com.ssafy.projectree.domain.node.enums.Priority;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 워크스페이스의 우선순위별 노드 수 / 완료 노드 수 집계
+ * 노드 생성, 삭제, 상태/우선순위 변경 시 증감분만 반영하고, 주기적으로 GROUP BY 결과로 다시 맞춘다.
+ * 파생 데이터이므로 soft delete를 쓰지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "workspace_progress", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_workspace_progress_workspace_priority", columnNames = {"workspace_id", "priority"})
+})
+public class WorkspaceProgress {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "workspace_id", nullable = false)
+	private Long workspaceId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 10, nullable = false)
+	private Priority priority;
+
+	@Column(nullable = false)
+	private long total;
+
+	@Column(nullable = false)
+	private long completed;
+}
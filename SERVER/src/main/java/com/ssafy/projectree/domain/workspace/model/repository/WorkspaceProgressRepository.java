@@ -0,0 +1,116 @@
+package com.ssafy.projectree.domain.workspace.model.repository;
+
+import com.ssafy.projectree.domain.workspace.model.entity.WorkspaceProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface WorkspaceProgressRepository extends JpaRepository<WorkspaceProgress, Long> {
+
+    // 증감분을 더하는 공통 UPSERT 절 (행이 없으면 증감분 그대로 생성)
+    String ADD_ON_CONFLICT = """
+            ON CONFLICT (workspace_id, priority) DO UPDATE
+            SET total = workspace_progress.total + EXCLUDED.total,
+                completed = workspace_progress.completed + EXCLUDED.completed
+            """;
+
+    List<WorkspaceProgress> findAllByWorkspaceId(Long workspaceId);
+
+    // 증감은 공유 잠금, 재집계는 배타 잠금을 트랜잭션 끝까지 잡는다. (워크스페이스 ID를 advisory lock 키로 사용)
+    // 재집계는 진행 중인 증감이 커밋된 뒤에 세고, 재집계 중에 들어온 증감은 재집계가 커밋된 뒤에 더해진다.
+    @Query(nativeQuery = true, value = "SELECT 1 FROM pg_advisory_xact_lock_shared(:workspaceId)")
+    Integer lockForDelta(@Param("workspaceId") Long workspaceId);
+
+    @Query(nativeQuery = true, value = "SELECT 1 FROM pg_advisory_xact_lock(:workspaceId)")
+    Integer lockForRecount(@Param("workspaceId") Long workspaceId);
+
+    // 재집계 대상: 노드나 집계가 있는 워크스페이스
+    @Query(nativeQuery = true, value = """
+            SELECT n.workspace_id FROM node n WHERE n.workspace_id IS NOT NULL
+            UNION
+            SELECT wp.workspace_id FROM workspace_progress wp
+            """)
+    List<Long> findWorkspaceIds();
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO workspace_progress (workspace_id, priority, total, completed)
+            VALUES (:workspaceId, :priority, :total, :completed)
+            """ + ADD_ON_CONFLICT)
+    void add(@Param("workspaceId") Long workspaceId,
+             @Param("priority") String priority,
+             @Param("total") long total,
+             @Param("completed") long completed);
+
+    // 지정한 노드들을 우선순위별로 묶어 sign(+1/-1)만큼 반영
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO workspace_progress (workspace_id, priority, total, completed)
+            SELECT :workspaceId, n.priority, :sign * COUNT(*), :sign * COUNT(*) FILTER (WHERE n.status = 'DONE')
+            FROM node n
+            WHERE n.id IN (:nodeIds)
+            AND n.workspace_id = :workspaceId
+            AND n.priority IS NOT NULL
+            AND n.deleted_at IS NULL
+            GROUP BY n.priority
+            """ + ADD_ON_CONFLICT)
+    void addNodes(@Param("workspaceId") Long workspaceId,
+                  @Param("nodeIds") Collection<Long> nodeIds,
+                  @Param("sign") int sign);
+
+    // nodeId를 포함한 서브트리 전체를 sign(+1/-1)만큼 반영 (서브트리 삭제용, 삭제 전에 호출)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO workspace_progress (workspace_id, priority, total, completed)
+            SELECT :workspaceId, n.priority, :sign * COUNT(*), :sign * COUNT(*) FILTER (WHERE n.status = 'DONE')
+            FROM node_tree nt
+            JOIN node n ON n.id = nt.descendant_id
+            WHERE nt.ancestor_id = :nodeId
+            AND n.workspace_id = :workspaceId
+            AND n.priority IS NOT NULL
+            AND n.deleted_at IS NULL
+            GROUP BY n.priority
+            """ + ADD_ON_CONFLICT)
+    void addSubtree(@Param("workspaceId") Long workspaceId,
+                    @Param("nodeId") Long nodeId,
+                    @Param("sign") int sign);
+
+    // 보정: 더 이상 해당 우선순위의 노드가 없는 집계를 0으로
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE workspace_progress wp
+            SET total = 0, completed = 0
+            WHERE wp.workspace_id = :workspaceId
+            AND (wp.total <> 0 OR wp.completed <> 0)
+            AND NOT EXISTS (
+                SELECT 1
+                FROM node n
+                WHERE n.workspace_id = wp.workspace_id
+                AND n.priority = wp.priority
+                AND n.deleted_at IS NULL
+            )
+            """)
+    int resetOrphaned(@Param("workspaceId") Long workspaceId);
+
+    // 보정: 워크스페이스의 노드를 GROUP BY로 다시 세어 덮어쓴다. (값이 다른 행만 갱신)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO workspace_progress (workspace_id, priority, total, completed)
+            SELECT n.workspace_id, n.priority, COUNT(*), COUNT(*) FILTER (WHERE n.status = 'DONE')
+            FROM node n
+            WHERE n.workspace_id = :workspaceId
+            AND n.priority IS NOT NULL
+            AND n.deleted_at IS NULL
+            GROUP BY n.workspace_id, n.priority
+            ON CONFLICT (workspace_id, priority) DO UPDATE
+            SET total = EXCLUDED.total,
+                completed = EXCLUDED.completed
+            WHERE workspace_progress.total <> EXCLUDED.total
+            OR workspace_progress.completed <> EXCLUDED.completed
+            """)
+    int recount(@Param("workspaceId") Long workspaceId);
+}
@@ -1,10 +1,56 @@
 package com.ssafy.projectree.domain.workspace.model.repository;
 
+import com.ssafy.projectree.domain.workspace.api.dto.schemas.WorkspaceSummarySchema;
 import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
 
+    @Query("SELECT w.contentVersion FROM Workspace w WHERE w.id = :workspaceId")
+    Optional<Long> findContentVersionById(@Param("workspaceId") Long workspaceId);
+
+    // 버전을 읽고 커밋할 때까지 다른 트랜잭션이 버전을 올리지 못하게 공유 잠금
+    @Query(nativeQuery = true, value = "SELECT content_version FROM workspace WHERE id = :workspaceId FOR SHARE")
+    Optional<Long> findContentVersionForShareById(@Param("workspaceId") Long workspaceId);
+
+    @Modifying
+    @Query("UPDATE Workspace w SET w.contentVersion = w.contentVersion + 1 WHERE w.id = :workspaceId")
+    void increaseContentVersion(@Param("workspaceId") Long workspaceId);
+
+    @Query("SELECT w.changeLogFloor FROM Workspace w WHERE w.id = :workspaceId")
+    Optional<Long> findChangeLogFloorById(@Param("workspaceId") Long workspaceId);
+
+    // 내 워크스페이스 목록: 워크스페이스 수와 관계없이 한 번에 조회
+    // 팀원 수는 상관 서브쿼리, 진행도는 workspace_progress(우선순위별 1행)를 열로 펼쳐서 계산
+    @Query("""
+                SELECT
+                    w.id as workspaceId,
+                    w.name as name,
+                    w.description as description,
+                    (SELECT COUNT(mt) FROM Team mt WHERE mt.workspace.id = w.id) as totalMembers,
+                    t.role as role,
+                    w.updatedAt as updatedAt,
+                    COALESCE(SUM(CASE WHEN wp.priority = com.ssafy.projectree.domain.node.enums.Priority.P0 THEN wp.total END), 0) as p0Total,
+                    COALESCE(SUM(CASE WHEN wp.priority = com.ssafy.projectree.domain.node.enums.Priority.P0 THEN wp.completed END), 0) as p0Completed,
+                    COALESCE(SUM(CASE WHEN wp.priority = com.ssafy.projectree.domain.node.enums.Priority.P1 THEN wp.total END), 0) as p1Total,
+                    COALESCE(SUM(CASE WHEN wp.priority = com.ssafy.projectree.domain.node.enums.Priority.P1 THEN wp.completed END), 0) as p1Completed,
+                    COALESCE(SUM(CASE WHEN wp.priority = com.ssafy.projectree.domain.node.enums.Priority.P2 THEN wp.total END), 0) as p2Total,
+                    COALESCE(SUM(CASE WHEN wp.priority = com.ssafy.projectree.domain.node.enums.Priority.P2 THEN wp.completed END), 0) as p2Completed
+                FROM Team t
+                JOIN t.workspace w
+                LEFT JOIN WorkspaceProgress wp
+                    ON wp.workspaceId = w.id
+                WHERE t.member.id = :memberId
+                GROUP BY t.id, t.role, w.id, w.name, w.description, w.updatedAt
+                ORDER BY t.id
+            """)
+    List<WorkspaceSummarySchema> findSummariesByMemberId(@Param("memberId") Long memberId);
 }
@@ -33,6 +33,7 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final MemberService memberService;
     private final ChatRoomService chatRoomService;
+    private final WorkspaceVersionService workspaceVersionService;
 
     @Value("${workspace.invite_url}")
     private String baseUrl;
@@ -54,7 +55,7 @@ public class TeamService {
                 Member teammate = memberService.findByEmail(email);
 
                 Team newTeam = new Team(teammate, workspace, chatRoom, role);
-                emailService.sendEmail(email, baseUrl + workspace.getId());
+                emailService.sendInviteEmail(email, baseUrl + workspace.getId());
                 teamRepository.save(newTeam);
             });
         }
@@ -91,6 +92,7 @@ public class TeamService {
 
         Team team = findByWorkspaceAndMember(workspace, targetMember);
         team.setRole(dto.getRole());
+        workspaceVersionService.bump(workspace.getId());
 
         return TeamDto.UpdateRoleResponse.builder()
                 .memberId(targetMember.getId())
@@ -131,8 +133,9 @@ public class TeamService {
 
         Team newTeammate = new Team(newMember, workspace, chatRoom, dto.getRole());
         teamRepository.save(newTeammate);
+        workspaceVersionService.bump(workspace.getId());
 
-        emailService.sendEmail(dto.getEmail(), baseUrl + dto.getWorkspaceId());
+        emailService.sendInviteEmail(dto.getEmail(), baseUrl + dto.getWorkspaceId());
 
         return MemberDto.Info.from(newTeammate);
     }
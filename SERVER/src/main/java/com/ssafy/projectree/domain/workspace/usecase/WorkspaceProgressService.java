@@ -0,0 +1,133 @@
+package com.ssafy.projectree.domain.workspace.usecase;
+
+import com.ssafy.projectree.domain.node.enums.NodeStatus;
+import com.ssafy.projectree.domain.node.enums.Priority;
+import com.ssafy.projectree.domain.workspace.api.dto.WorkspaceDto;
+import com.ssafy.projectree.domain.workspace.model.entity.WorkspaceProgress;
+import com.ssafy.projectree.domain.workspace.model.repository.WorkspaceProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 워크스페이스 진행도(우선순위별 전체/완료 노드 수) 집계 관리
+ * 노드 변경 시 같은 트랜잭션에서 증감분만 UPSERT하므로, 조회는 워크스페이스당 최대 3행을 읽는 것으로 끝난다.
+ * 증감 누락(외부에서 직접 수정 등)은 기동 시와 주기적인 재집계(GROUP BY)로 보정한다.
+ * 증감과 재집계는 워크스페이스별 advisory lock으로 서로 겹치지 않게 하여, 재집계가 동시에 커밋된 증감을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkspaceProgressService {
+
+    private final WorkspaceProgressRepository workspaceProgressRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional(readOnly = true)
+    public WorkspaceDto.ProgressInfo getProgress(Long workspaceId) {
+        Map<Priority, WorkspaceProgress> progress = new EnumMap<>(Priority.class);
+        for (WorkspaceProgress row : workspaceProgressRepository.findAllByWorkspaceId(workspaceId)) {
+            progress.put(row.getPriority(), row);
+        }
+
+        return WorkspaceDto.ProgressInfo.builder()
+                .p0(toPriorityProgress(progress.get(Priority.P0)))
+                .p1(toPriorityProgress(progress.get(Priority.P1)))
+                .p2(toPriorityProgress(progress.get(Priority.P2)))
+                .build();
+    }
+
+    // 노드 생성 직후 호출 (우선순위가 없는 노드는 집계되지 않음)
+    @Transactional
+    public void nodesCreated(Long workspaceId, Collection<Long> nodeIds) {
+        if (workspaceId == null || nodeIds == null || nodeIds.isEmpty()) {
+            return;
+        }
+        workspaceProgressRepository.lockForDelta(workspaceId);
+        workspaceProgressRepository.addNodes(workspaceId, nodeIds, 1);
+    }
+
+    // 서브트리 삭제 직전에 호출 (삭제 후에는 어떤 노드가 살아 있었는지 알 수 없음)
+    @Transactional
+    public void subtreeDeleting(Long workspaceId, Long nodeId) {
+        if (workspaceId == null) {
+            return;
+        }
+        workspaceProgressRepository.lockForDelta(workspaceId);
+        workspaceProgressRepository.addSubtree(workspaceId, nodeId, -1);
+    }
+
+    // 상태/우선순위 변경: 이전 값의 집계에서 빼고 새 값의 집계에 더한다.
+    // 호출자는 이전 값을 읽을 때부터 노드 행을 잠가야 한다. (NodeRepository.findByIdForUpdate)
+    @Transactional
+    public void nodeChanged(Long workspaceId,
+                            Priority oldPriority, NodeStatus oldStatus,
+                            Priority newPriority, NodeStatus newStatus) {
+        if (workspaceId == null || (oldPriority == newPriority && oldStatus == newStatus)) {
+            return;
+        }
+        workspaceProgressRepository.lockForDelta(workspaceId);
+        boolean wasDone = oldStatus == NodeStatus.DONE;
+        boolean isDone = newStatus == NodeStatus.DONE;
+
+        if (oldPriority == newPriority) {
+            if (newPriority != null && wasDone != isDone) {
+                workspaceProgressRepository.add(workspaceId, newPriority.name(), 0, isDone ? 1 : -1);
+            }
+            return;
+        }
+        if (oldPriority != null) {
+            workspaceProgressRepository.add(workspaceId, oldPriority.name(), -1, wasDone ? -1 : 0);
+        }
+        if (newPriority != null) {
+            workspaceProgressRepository.add(workspaceId, newPriority.name(), 1, isDone ? 1 : 0);
+        }
+    }
+
+    // 집계 테이블이 생기기 전부터 있던 워크스페이스도 첫 조회부터 값이 보이도록 기동 시 한 번 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * 워크스페이스별로 노드를 GROUP BY로 다시 세어 집계를 덮어쓴다.
+     * 워크스페이스마다 별도 트랜잭션에서 배타 잠금을 잡으므로, 그동안 해당 워크스페이스의 증감만 잠시 기다린다.
+     */
+    @Scheduled(initialDelayString = "${workspace-progress.reconcile-initial-delay-ms:3600000}",
+            fixedDelayString = "${workspace-progress.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        int reset = 0;
+        int recounted = 0;
+        for (Long workspaceId : workspaceProgressRepository.findWorkspaceIds()) {
+            int[] changed = transactionTemplate.execute(status -> {
+                workspaceProgressRepository.lockForRecount(workspaceId);
+                return new int[]{
+                        workspaceProgressRepository.resetOrphaned(workspaceId),
+                        workspaceProgressRepository.recount(workspaceId)
+                };
+            });
+            reset += changed[0];
+            recounted += changed[1];
+        }
+        if (reset + recounted > 0) {
+            log.info("Reconciled workspace progress: {} recounted, {} reset", recounted, reset);
+        }
+    }
+
+    private WorkspaceDto.PriorityProgress toPriorityProgress(WorkspaceProgress row) {
+        return WorkspaceDto.PriorityProgress.builder()
+                .total(row == null ? 0 : row.getTotal())
+                .completed(row == null ? 0 : row.getCompleted())
+                .build();
+    }
+}
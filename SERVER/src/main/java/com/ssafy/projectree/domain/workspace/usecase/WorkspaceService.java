@@ -2,11 +2,13 @@ package com.ssafy.projectree.domain.workspace.usecase;
 
 import com.ssafy.projectree.domain.auth.utils.SecurityUtils;
 import com.ssafy.projectree.domain.file.api.dto.FileReadDto;
+import com.ssafy.projectree.domain.file.enums.FileStatus;
 import com.ssafy.projectree.domain.file.model.entity.FileProperty;
 import com.ssafy.projectree.domain.file.model.repository.FileRepository;
 import com.ssafy.projectree.domain.file.usecase.FileService;
 import com.ssafy.projectree.domain.member.api.dto.MemberDto;
 import com.ssafy.projectree.domain.member.model.entity.Member;
+import com.ssafy.projectree.domain.node.api.dto.NodeTreeReadDto;
 import com.ssafy.projectree.domain.node.model.entity.ProjectNode;
 import com.ssafy.projectree.domain.node.usecase.NodeService;
 import com.ssafy.projectree.domain.tech.usecase.WorkspaceTechStackService;
@@ -19,18 +21,24 @@ import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
 import com.ssafy.projectree.domain.workspace.model.repository.TeamRepository;
 import com.ssafy.projectree.domain.workspace.model.repository.WorkspaceRepository;
 import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.async.VirtualThreadFanOut;
 import com.ssafy.projectree.global.exception.BusinessLogicException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,31 +54,40 @@ public class WorkspaceService {
     private final FunctionSpecificationService functionSpecificationService;
     private final TeamRepository teamRepository;
     private final FileRepository fileRepository;
+    private final WorkspaceVersionService workspaceVersionService;
+    private final VirtualThreadFanOut fanOut;
+    private final PlatformTransactionManager transactionManager;
 
-    public List<WorkspaceDto.Response> read(Member member) {
+    @Value("${workspace-details.parallel:false}")
+    private boolean parallelDetails;
 
-        List<Long> ids = teamService.getAllWorkspacesId(member);
-        List<WorkspaceDto.Response> myAllWorkspaces = new ArrayList<>();
-
-        for (Long id : ids) {
-            // WorkspaceDto.Response 객체에 담기
-            Workspace workspace = findById(id);
-
-            // 워크 스페이스별 조회 결과 리스트에 저장
-            myAllWorkspaces.add(
-                    WorkspaceDto.Response.builder()
-                            .workspaceId(id)
-                            .name(workspace.getName())
-                            .description(workspace.getDescription())
-                            .totalMembers(teamService.getMemberCount(workspace))
-                            .role(teamService.getMemberRole(workspace, member))
-                            .progress(nodeService.getStatistics(id))
-                            .updatedAt(workspace.getUpdatedAt())
-                            .build()
-            );
-        }
+    @Value("${workspace-details.part-timeout:3s}")
+    private Duration detailsPartTimeout;
 
-        return myAllWorkspaces;
+    public List<WorkspaceDto.Response> read(Member member) {
+        // 워크스페이스 정보, 팀원 수, 역할, 진행도를 워크스페이스 수와 관계없이 쿼리 1회로 조회
+        return workspaceRepository.findSummariesByMemberId(member.getId()).stream()
+                .map(summary -> WorkspaceDto.Response.builder()
+                        .workspaceId(summary.getWorkspaceId())
+                        .name(summary.getName())
+                        .description(summary.getDescription())
+                        .totalMembers(Math.toIntExact(summary.getTotalMembers()))
+                        .role(summary.getRole())
+                        .progress(WorkspaceDto.ProgressInfo.builder()
+                                .p0(toPriorityProgress(summary.getP0Total(), summary.getP0Completed()))
+                                .p1(toPriorityProgress(summary.getP1Total(), summary.getP1Completed()))
+                                .p2(toPriorityProgress(summary.getP2Total(), summary.getP2Completed()))
+                                .build())
+                        .updatedAt(summary.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
+    private WorkspaceDto.PriorityProgress toPriorityProgress(long total, long completed) {
+        return WorkspaceDto.PriorityProgress.builder()
+                .total(total)
+                .completed(completed)
+                .build();
     }
 
     public Workspace findById(Long id) {
@@ -128,32 +145,78 @@ public class WorkspaceService {
             throw new BusinessLogicException(ErrorCode.WORKSPACE_NOT_FOUND);
         }
 
-        List<FileReadDto.Response> files = fileService.findByWorkspaceId(workspace);
+        if (parallelDetails) {
+            return assembleDetailsInParallel(workspace);
+        }
+
+        return WorkspaceDto.Detail.builder()
+                .info(WorkspaceDto.Info.from(workspace, functionSpecificationService.getEpics(workspace), readTechs(workspace)))
+                .nodeTree(nodeService.getNodeTree(workspaceId))
+                .files(fileService.findByWorkspaceId(workspace))
+                .teamInfo(readTeamInfo(workspace))
+                .build();
+    }
 
+    // 서로 독립적인 5개 조회를 가상 스레드에서 동시에 실행
+    // 요청 스레드의 영속성 컨텍스트를 공유하지 않으므로, 지연 로딩이 있는 조회는 각자의 읽기 전용 트랜잭션에서 DTO로 변환까지 마친다.
+    private WorkspaceDto.Detail assembleDetailsInParallel(Workspace workspace) {
+        try (VirtualThreadFanOut.Scope scope = fanOut.open("workspace.details", detailsPartTimeout)) {
+            VirtualThreadFanOut.Fork<List<FileReadDto.Response>> files =
+                    scope.fork("files", () -> readOnly(() -> fileService.findByWorkspaceId(workspace)));
+            VirtualThreadFanOut.Fork<TeamDto.Info> teamInfo =
+                    scope.fork("team", () -> readOnly(() -> readTeamInfo(workspace)));
+            VirtualThreadFanOut.Fork<List<WorkspaceDto.Tech>> techs =
+                    scope.fork("techs", () -> readOnly(() -> readTechs(workspace)));
+            VirtualThreadFanOut.Fork<List<FunctionSpecificationDto.EpicInfo>> epics =
+                    scope.fork("epics", () -> readOnly(() -> functionSpecificationService.getEpics(workspace)));
+            VirtualThreadFanOut.Fork<NodeTreeReadDto.Response> nodeTree =
+                    scope.fork("tree", () -> nodeService.getNodeTree(workspace.getId()));
+
+            scope.join();
+
+            return WorkspaceDto.Detail.builder()
+                    .info(WorkspaceDto.Info.from(workspace, epics.get(), techs.get()))
+                    .nodeTree(nodeTree.get())
+                    .files(files.get())
+                    .teamInfo(teamInfo.get())
+                    .build();
+        }
+    }
+
+    private TeamDto.Info readTeamInfo(Workspace workspace) {
         List<Team> teams = teamService.findAllByWorkspace(workspace);
 
         List<MemberDto.Info> memberInfos = teams.stream()
                 .map(MemberDto.Info::from)
                 .collect(Collectors.toList());
 
-        TeamDto.Info teamInfo = TeamDto.Info.builder()
+        return TeamDto.Info.builder()
                 .chatRoomId(teams.get(0).getChatRoom().getId())
                 .memberInfos(memberInfos)
                 .build();
+    }
 
-        List<WorkspaceDto.Tech> techs = workspaceTechStackService.findAllbyWorkspace(workspace)
+    private List<WorkspaceDto.Tech> readTechs(Workspace workspace) {
+        return workspaceTechStackService.findAllbyWorkspace(workspace)
                 .stream()
                 .map(WorkspaceDto.Tech::from)
                 .collect(Collectors.toUnmodifiableList());
+    }
 
-        List<FunctionSpecificationDto.EpicInfo> epics = functionSpecificationService.getEpics(workspace);
+    // 취소된 조회가 인터럽트를 무시하고 커넥션을 오래 잡지 않도록 쿼리에 제한 시간을 건다.
+    private <T> T readOnly(Supplier<T> read) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setTimeout(Math.toIntExact(Math.max(1, detailsPartTimeout.toSeconds())));
+        return transaction.execute(status -> read.get());
+    }
 
-        return WorkspaceDto.Detail.builder()
-                .info(WorkspaceDto.Info.from(workspace, epics, techs))
-                .nodeTree(nodeService.getNodeTree(workspaceId))
-                .files(files)
-                .teamInfo(teamInfo)
-                .build();
+    // 상세조회와 같은 권한 확인 후 현재 버전의 ETag 반환
+    // 본문보다 먼저 읽으므로 본문은 이 버전 이후의 상태이다. (트리 캐시도 조회 시점 버전 이상의 스냅샷만 반환)
+    public String getDetailsETag(Member member, Long workspaceId) {
+        Workspace workspace = findById(workspaceId);
+        teamService.findByWorkspaceAndMember(workspace, member);
+        return workspaceVersionService.getETag(workspaceId);
     }
 
     public Page<FileReadDto.Response> getWorkspaceFiles(int page, int size, Long workspaceId) {
@@ -163,7 +226,7 @@ public class WorkspaceService {
             throw new BusinessLogicException(ErrorCode.MEMBER_NOT_FOUND_IN_WORKSPACE, "해당 워크스페이스에 참여중이지 않은 사용자입니다.");
         }
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<FileProperty> files = fileRepository.findByWorkspace(workspace, pageRequest);
+        Page<FileProperty> files = fileRepository.findByWorkspaceAndStatus(workspace, FileStatus.UPLOADED, pageRequest);
         return files.map(file ->
                 FileReadDto.Response.builder()
                         .originFileName(file.getOriginFileName())
@@ -212,6 +275,7 @@ public class WorkspaceService {
             fileService.uploadFiles(multipartFiles, workspace);
         }
 
+        workspaceVersionService.bump(workspace.getId());
 
         return WorkspaceDto.UpdateResponse.builder()
                 .name(workspace.getName())
@@ -0,0 +1,64 @@
+package com.ssafy.projectree.domain.workspace.usecase;
+
+import com.ssafy.projectree.domain.workspace.model.repository.WorkspaceRepository;
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.exception.BusinessLogicException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 워크스페이스 단위의 변경 버전 관리
+ * 노드/후보/기술스택/워크스페이스 변경 시 버전을 올리고, 조회 API는 이 버전으로 ETag를 만들어
+ * 변경이 없으면 트리 조회 없이 304로 응답한다.
+ * 버전은 변경과 같은 트랜잭션에서 DB에 반영되므로 서버 인스턴스가 여러 개여도 일관된다.
+ * 노드 좌표 변경은 드래그 중 계속 저장되므로 버전을 올리지 않는다. (실시간 좌표는 CRDT로 전달)
+ * ETag의 버전은 본문보다 새로우면 안 되므로, 캐시된 본문은 함께 저장한 버전으로(toETag), 그 외에는 본문 조회 전에 읽은 버전으로 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkspaceVersionService {
+
+    private final WorkspaceRepository workspaceRepository;
+
+    @Transactional
+    public void bump(Long workspaceId) {
+        if (workspaceId != null) {
+            workspaceRepository.increaseContentVersion(workspaceId);
+        }
+    }
+
+    // 버전을 올리고 올라간 버전을 반환 (UPDATE의 행 잠금으로 같은 워크스페이스의 버전은 커밋 순서대로 증가)
+    @Transactional
+    public long bumpAndGet(Long workspaceId) {
+        workspaceRepository.increaseContentVersion(workspaceId);
+        return getVersion(workspaceId);
+    }
+
+    @Transactional(readOnly = true)
+    public long getVersion(Long workspaceId) {
+        return workspaceRepository.findContentVersionById(workspaceId)
+                .orElseThrow(() -> new BusinessLogicException(ErrorCode.WORKSPACE_NOT_FOUND, "존재하지 않는 워크 스페이스입니다."));
+    }
+
+    // 현재 버전을 읽고, 이 트랜잭션이 끝날 때까지 버전이 올라가지 않게 잠금
+    @Transactional
+    public long lockVersion(Long workspaceId) {
+        return workspaceRepository.findContentVersionForShareById(workspaceId)
+                .orElseThrow(() -> new BusinessLogicException(ErrorCode.WORKSPACE_NOT_FOUND, "존재하지 않는 워크 스페이스입니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public long getChangeLogFloor(Long workspaceId) {
+        return workspaceRepository.findChangeLogFloorById(workspaceId).orElse(0L);
+    }
+
+    // 같은 버전이면 응답 본문이 바이트 단위로 같으므로 strong ETag 사용
+    public String getETag(Long workspaceId) {
+        return toETag(workspaceId, getVersion(workspaceId));
+    }
+
+    public String toETag(Long workspaceId, long version) {
+        return "\"ws-" + workspaceId + "-v" + version + "\"";
+    }
+}
@@ -11,6 +11,9 @@ public enum ErrorCode {
     WORKSPACE_VOICE_TOKEN_INVALID_REQUEST(DomainCode.WORKSPACE, ExceptionCode.INVALID,
             "방 이름과 참여자 이름이 필요합니다."),
     SERVER_ERROR(DomainCode.NORMAL, ExceptionCode.INTERNAL_SERVER_ERROR, "서버 오류입니다."),
+    READ_TIMEOUT_ERROR(DomainCode.NORMAL, ExceptionCode.EXPIRED, "조회 시간이 초과되었습니다."),
+    AI_JOB_NOT_FOUND_ERROR(DomainCode.NORMAL, ExceptionCode.NOT_FOUND, "AI 작업을 찾을 수 없습니다."),
+    AI_JOB_OVERLOADED_ERROR(DomainCode.NORMAL, ExceptionCode.TOO_MANY_REQUEST, "처리 중인 AI 작업이 많습니다. 잠시 후 다시 시도해주세요."),
     CANDIDATE_GENERATE_ERROR(DomainCode.CANDIDATE, ExceptionCode.FAILURE, "후보 생성 중 실패하였습니다."),
     NODE_GENERATE_ERROR(DomainCode.NODE, ExceptionCode.FAILURE, "노드 생성중 실패하였습니다"),
     TECH_RECOMMEND_ERROR(DomainCode.TECH, ExceptionCode.FAILURE, "기술 추천 중 실패하였습니다."),
@@ -18,6 +21,8 @@ public enum ErrorCode {
     CANDIDATE_NOT_FOUND_ERROR(DomainCode.CANDIDATE, ExceptionCode.NOT_FOUND, "후보 노드를 찾을 수 없습니다."),
     NODE_NOT_FOUND_ERROR(DomainCode.NODE, ExceptionCode.NOT_FOUND, "노드를 찾을 수 없습니다."),
     NODE_TYPE_NOT_SUPPORT_ERROR(DomainCode.NODE, ExceptionCode.NOT_SUPPORT, "지원되지 않는 노드 형식입니다."),
+    NODE_MOVE_INVALID_ERROR(DomainCode.NODE, ExceptionCode.INVALID, "노드를 해당 위치로 이동할 수 없습니다."),
+    NODE_POSITION_BUFFER_FULL_ERROR(DomainCode.NODE, ExceptionCode.TOO_MANY_REQUEST, "저장 대기 중인 노드 위치가 너무 많습니다. 잠시 후 다시 시도해주세요."),
     JWT_CREATE_FAILURE_ERROR(DomainCode.USER, ExceptionCode.NOT_SUPPORT, "지원되지 않는 사용자 입니다."),
     TOKEN_EXPIRED(DomainCode.AUTH, ExceptionCode.EXPIRED, "TOKEN_EXPIRED - AccessToken 만료시 해당 에러 발급"),
     TOKEN_MALFORMED(DomainCode.AUTH, ExceptionCode.MALFORMED, "TOKEN_MALFORMED - 토큰 위조됨"),
@@ -0,0 +1,180 @@
+package com.ssafy.projectree.global.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.Getter;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크기 제한과 과부하 정책, 메트릭이 적용된 실행기
+ * 큐 길이/활성 스레드 수(executor.queued, executor.active 등)와 함께
+ * 거절/합쳐진 작업 수, 대기/실행 시간을 name 태그로 구분하여 기록한다.
+ */
+public class BoundedTaskExecutor extends ThreadPoolTaskExecutor {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final OverloadPolicy policy;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Set<Object> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final Counter rejectedCounter;
+    private final Counter coalescedCounter;
+
+    public BoundedTaskExecutor(String name, OverloadPolicy policy, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("executor.overload.rejected")
+                .tag("name", name).tag("policy", policy.name())
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("executor.overload.coalesced")
+                .tag("name", name)
+                .register(meterRegistry);
+        Timer waitTimer = Timer.builder("executor.task.wait")
+                .description("큐에서 대기한 시간")
+                .tag("name", name)
+                .register(meterRegistry);
+        Timer runTimer = Timer.builder("executor.task.run")
+                .description("작업 실행 시간")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        setThreadNamePrefix(name + "-");
+        setRejectedExecutionHandler(countingHandler(policy));
+        setTaskDecorator(task -> new TimedTask(task, System.nanoTime(), waitTimer, runTimer));
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        ExecutorService executorService = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+        new ExecutorServiceMetrics(executorService, name, Tags.empty()).bindTo(meterRegistry);
+        return executorService;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (policy != OverloadPolicy.COALESCE) {
+            super.execute(task);
+            return;
+        }
+
+        Object key = task instanceof CoalescingTask coalescing ? coalescing.coalescingKey() : task;
+        if (!pendingKeys.add(key)) {
+            coalescedCounter.increment();
+            return;
+        }
+        try {
+            // 실행이 시작되면 키를 풀어, 실행 중에 들어온 요청은 다시 예약될 수 있게 함
+            super.execute(() -> {
+                pendingKeys.remove(key);
+                task.run();
+            });
+        } catch (TaskRejectedException e) {
+            // 큐가 가득 찬 경우 새 작업은 버림 (거절 수는 handler에서 기록됨)
+            pendingKeys.remove(key);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> submitCompletable(Runnable task) {
+        return submitCompletable(Executors.callable(task, null));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submitCompletable(Callable<T> task) {
+        if (policy != OverloadPolicy.DROP_OLDEST) {
+            return super.submitCompletable(task);
+        }
+        // 큐에서 밀려난 작업을 취소할 수 있도록 FutureTask로 감싸 결과를 옮겨 줌
+        CompletableFuture<T> result = new CompletableFuture<>();
+        execute(new FutureTask<>(task) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    result.cancel(false);
+                    return;
+                }
+                try {
+                    result.complete(get());
+                } catch (ExecutionException e) {
+                    result.completeExceptionally(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+        return result;
+    }
+
+    private RejectedExecutionHandler countingHandler(OverloadPolicy policy) {
+        if (policy == OverloadPolicy.DROP_OLDEST) {
+            return this::dropOldest;
+        }
+        RejectedExecutionHandler delegate = switch (policy) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case ABORT, COALESCE, DROP_OLDEST -> new ThreadPoolExecutor.AbortPolicy();
+        };
+        return (task, executor) -> {
+            rejectedCounter.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    // 가장 오래된 작업을 버릴 때 Future로 기다리는 쪽이 멈추지 않도록 취소하고, 버려진 작업을 거절 수로 기록
+    private void dropOldest(Runnable task, ThreadPoolExecutor executor) {
+        Runnable evicted = executor.isShutdown() ? task : executor.getQueue().poll();
+        if (evicted != null) {
+            rejectedCounter.increment();
+            cancel(evicted);
+        }
+        // executor.execute()는 작업을 다시 decorate하므로 이미 감싼 작업은 큐에 직접 넣음
+        if (evicted != task && !executor.getQueue().offer(task)) {
+            rejectedCounter.increment();
+            cancel(task);
+        }
+    }
+
+    private static void cancel(Runnable task) {
+        Runnable original = task instanceof TimedTask timed ? timed.task() : task;
+        if (original instanceof Future<?> future) {
+            future.cancel(false);
+        }
+    }
+
+    private record TimedTask(Runnable task, long submittedAt, Timer waitTimer, Timer runTimer) implements Runnable {
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } finally {
+                runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
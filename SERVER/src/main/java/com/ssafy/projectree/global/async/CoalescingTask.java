@@ -0,0 +1,24 @@
+package com.ssafy.projectree.global.async;
+
+/**
+ * COALESCE 정책 실행기에서 같은 key의 작업은 대기 중인 것 하나만 실행된다.
+ * 나중에 실행되어도 최신 상태를 처리하는 작업(버퍼 flush 등)에 사용한다.
+ */
+public interface CoalescingTask extends Runnable {
+
+    Object coalescingKey();
+
+    static CoalescingTask of(Object key, Runnable task) {
+        return new CoalescingTask() {
+            @Override
+            public Object coalescingKey() {
+                return key;
+            }
+
+            @Override
+            public void run() {
+                task.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.projectree.global.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 애플리케이션의 모든 비동기 실행기를 생성하고 보관하는 레지스트리
+ * 실행기별 크기와 과부하 정책은 async.executors.{name}.* 설정으로 덮어쓸 수 있다.
+ * 생성한 실행기는 빈으로 등록되어 Spring이 초기화/종료를 관리해야 한다. (AsyncConfig 참고)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExecutorRegistry {
+
+    private static final String PREFIX = "async.executors.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BoundedTaskExecutor> executors = new LinkedHashMap<>();
+
+    public synchronized BoundedTaskExecutor create(String name, ExecutorSpec defaults) {
+        String prefix = PREFIX + name + ".";
+        int coreSize = environment.getProperty(prefix + "core-size", Integer.class, defaults.coreSize());
+        int maxSize = environment.getProperty(prefix + "max-size", Integer.class, defaults.maxSize());
+        int queueCapacity = environment.getProperty(prefix + "queue-capacity", Integer.class, defaults.queueCapacity());
+        OverloadPolicy policy = environment.getProperty(prefix + "overload-policy", OverloadPolicy.class, defaults.policy());
+
+        BoundedTaskExecutor executor = new BoundedTaskExecutor(name, policy, meterRegistry);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        // 종료 시 대기 중인 작업을 마저 처리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executors.put(name, executor);
+        log.info("Executor [{}] core={}, max={}, queue={}, policy={}", name, coreSize, maxSize, queueCapacity, policy);
+        return executor;
+    }
+
+    public BoundedTaskExecutor get(String name) {
+        return executors.get(name);
+    }
+
+    public Map<String, BoundedTaskExecutor> getAll() {
+        return Collections.unmodifiableMap(executors);
+    }
+
+    public record ExecutorSpec(int coreSize, int maxSize, int queueCapacity, OverloadPolicy policy) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.projectree.global.async;
+
+/**
+ * 실행기 큐가 가득 찼을 때의 처리 방식
+ */
+public enum OverloadPolicy {
+    // 예외를 던져 호출한 쪽에서 처리
+    ABORT,
+    // 호출한 스레드에서 직접 실행 (요청 스레드가 느려지며 자연스럽게 유입량 조절)
+    CALLER_RUNS,
+    // 큐에서 가장 오래된 작업을 버리고 새 작업을 넣음
+    DROP_OLDEST,
+    // 같은 키의 작업이 이미 대기 중이면 새 작업을 합치고(버리고), 큐가 가득 차면 새 작업을 버림
+    COALESCE
+}
@@ -0,0 +1,201 @@
+package com.ssafy.projectree.global.async;
+
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.exception.BusinessLogicException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 서로 독립적인 조회 여러 개를 가상 스레드에서 동시에 실행하고 모으는 도구
+ * Scope 안에서 fork한 작업은 Scope를 벗어나기 전에 모두 끝나거나 취소된다.
+ * 하나가 실패하거나 제한 시간을 넘기면 나머지는 인터럽트로 취소하고 그 예외를 호출자에게 전달한다.
+ * JDBC 호출처럼 인터럽트에 바로 반응하지 않는 작업도 있으므로, close()는 취소 후 작업이 실제로 끝날 때까지
+ * 최대 fan-out.close-wait 동안 기다린다. 그래도 끝나지 않은 작업은 fanout.abandoned 메트릭과 로그로 남긴다.
+ * 작업별 소요 시간은 fanout.part{name, part, outcome} 메트릭으로 기록한다.
+ *
+ * JDK 21의 StructuredTaskScope는 preview API라 사용하지 않고 같은 규칙을 Future로 구현했다.
+ */
+@Slf4j
+@Component
+public class VirtualThreadFanOut {
+
+    private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final MeterRegistry meterRegistry;
+    private final Duration closeWait;
+
+    public VirtualThreadFanOut(
+            MeterRegistry meterRegistry,
+            @Value("${fan-out.close-wait:5s}") Duration closeWait
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.closeWait = closeWait;
+    }
+
+    /**
+     * @param name        메트릭 name 태그
+     * @param partTimeout 작업별 제한 시간 (fork 시점부터)
+     */
+    public Scope open(String name, Duration partTimeout) {
+        return new Scope(name, partTimeout);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        virtualThreads.shutdownNow();
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final long partTimeoutNanos;
+        private final List<Fork<?>> forks = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        private Scope(String name, Duration partTimeout) {
+            this.name = name;
+            this.partTimeoutNanos = partTimeout.toNanos();
+        }
+
+        public <T> Fork<T> fork(String part, Callable<T> task) {
+            long startedAt = System.nanoTime();
+            FutureTask<T> future = new FutureTask<>(() -> {
+                try {
+                    T result = task.call();
+                    record(part, "success", startedAt);
+                    return result;
+                } catch (Exception e) {
+                    // 형제 작업 취소로 인한 인터럽트는 원인이 아니므로 실패로 남기지 않음
+                    if (firstFailure.compareAndSet(null, e)) {
+                        record(part, "failure", startedAt);
+                        cancelAll();
+                    } else {
+                        record(part, "cancelled", startedAt);
+                    }
+                    throw e;
+                }
+            });
+            Fork<T> fork = new Fork<>(part, future, startedAt + partTimeoutNanos);
+            forks.add(fork);
+            // future는 취소되는 즉시 완료되므로, 스레드가 작업을 실제로 마친 시점은 finished로 따로 확인
+            virtualThreads.execute(() -> {
+                try {
+                    future.run();
+                } finally {
+                    fork.finished.countDown();
+                }
+            });
+            return fork;
+        }
+
+        /**
+         * 모든 작업이 끝날 때까지 기다린다. 실패/시간 초과가 있으면 나머지를 취소하고 예외를 던진다.
+         */
+        public void join() {
+            for (Fork<?> fork : forks) {
+                try {
+                    fork.future.get(Math.max(0, fork.deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    firstFailure.compareAndSet(null, e);
+                    record(fork.part, "timeout", fork.deadline - partTimeoutNanos);
+                    cancelAll();
+                    throw new BusinessLogicException(ErrorCode.READ_TIMEOUT_ERROR,
+                            name + "의 " + fork.part + " 조회 시간이 초과되었습니다.");
+                } catch (ExecutionException | CancellationException e) {
+                    throw propagate(firstFailure.get() != null ? firstFailure.get() : e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelAll();
+                    throw new BusinessLogicException(ErrorCode.SERVER_ERROR, e);
+                }
+            }
+        }
+
+        // 취소한 뒤 모든 작업이 끝나길 기다려, 작업이 잡고 있던 DB 커넥션 등이 Scope 밖으로 새지 않게 한다.
+        @Override
+        public void close() {
+            cancelAll();
+            long deadline = System.nanoTime() + closeWait.toNanos();
+            boolean interrupted = false;
+            for (Fork<?> fork : forks) {
+                try {
+                    if (!fork.finished.await(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                        meterRegistry.counter("fanout.abandoned", "name", name, "part", fork.part).increment();
+                        log.warn("Fan-out part {}.{} did not finish within {} after cancellation", name, fork.part, closeWait);
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    deadline = System.nanoTime();
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void cancelAll() {
+            for (Fork<?> fork : forks) {
+                fork.future.cancel(true);
+            }
+        }
+
+        private void record(String part, String outcome, long startedAt) {
+            Timer.builder("fanout.part")
+                    .description("동시 조회 작업별 소요 시간")
+                    .tag("name", name)
+                    .tag("part", part)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        private RuntimeException propagate(Throwable e) {
+            if (e instanceof ExecutionException && e.getCause() != null) {
+                e = e.getCause();
+            }
+            if (e instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            return new BusinessLogicException(ErrorCode.SERVER_ERROR, e);
+        }
+    }
+
+    public static final class Fork<T> {
+
+        private final String part;
+        private final Future<T> future;
+        private final long deadline;
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        private Fork(String part, Future<T> future, long deadline) {
+            this.part = part;
+            this.future = future;
+            this.deadline = deadline;
+        }
+
+        /**
+         * join() 이후에 호출한다.
+         */
+        public T get() {
+            return future.resultNow();
+        }
+    }
+}
@@ -1,24 +1,53 @@
 package com.ssafy.projectree.global.config;
 
+import com.ssafy.projectree.global.async.BoundedTaskExecutor;
+import com.ssafy.projectree.global.async.ExecutorRegistry;
+import com.ssafy.projectree.global.async.ExecutorRegistry.ExecutorSpec;
+import com.ssafy.projectree.global.async.OverloadPolicy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
 
+/**
+ * 비동기 실행기 설정
+ * 모든 실행기는 ExecutorRegistry로 생성하며, 아래 값은 기본값이고 async.executors.{name}.* 로 조정한다.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    // 이름을 지정하지 않은 @Async 작업이 사용하는 기본 실행기
+    @Bean(name = "taskExecutor")
+    public BoundedTaskExecutor taskExecutor(ExecutorRegistry executorRegistry) {
+        return executorRegistry.create("task",
+                new ExecutorSpec(4, 8, 500, OverloadPolicy.CALLER_RUNS));
+    }
+
+    // 노드 위치 버퍼 flush (같은 flush가 대기 중이면 합침)
     @Bean(name = "nodePositionExecutor")
-    public Executor nodePositionExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(8);
-        executor.setQueueCapacity(1000);
-        executor.setThreadNamePrefix("node-position-");
-        executor.initialize();
-        return executor;
+    public BoundedTaskExecutor nodePositionExecutor(ExecutorRegistry executorRegistry) {
+        return executorRegistry.create("node-position",
+                new ExecutorSpec(1, 2, 100, OverloadPolicy.COALESCE));
+    }
+
+    // CRDT 서버로의 워크스페이스별 배치 전송 (같은 워크스페이스 전송이 대기 중이면 합침, 이벤트는 채널에 남아 유실되지 않음)
+    @Bean(name = "crdtPushExecutor")
+    public BoundedTaskExecutor crdtPushExecutor(ExecutorRegistry executorRegistry) {
+        return executorRegistry.create("crdt-push",
+                new ExecutorSpec(4, 16, 1000, OverloadPolicy.COALESCE));
+    }
+
+    // AI 추론 작업 (작업 모드 요청, 가득 차면 거절하여 요청 스레드가 추론을 기다리지 않게 함)
+    @Bean(name = "inferenceExecutor")
+    public BoundedTaskExecutor inferenceExecutor(ExecutorRegistry executorRegistry) {
+        return executorRegistry.create("inference",
+                new ExecutorSpec(4, 4, 50, OverloadPolicy.ABORT));
+    }
+
+    // 아웃박스 전달과 S3 업로드 (전달 예약은 대기 중인 것이 있으면 합침, 큐는 outbox.max-in-flight보다 크게)
+    @Bean(name = "outboxExecutor")
+    public BoundedTaskExecutor outboxExecutor(ExecutorRegistry executorRegistry) {
+        return executorRegistry.create("outbox",
+                new ExecutorSpec(4, 4, 500, OverloadPolicy.COALESCE));
     }
 }
@@ -0,0 +1,38 @@
+package com.ssafy.projectree.global.docs;
+
+import com.ssafy.projectree.domain.ai.api.dto.AiJobReadDto;
+import com.ssafy.projectree.global.api.response.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@Tag(name = "AI Job", description = "AI 작업 상태 조회 및 취소 API")
+public interface AiJobDocsController {
+
+    @Operation(
+            summary = "AI 작업 상태 조회",
+            description = "작업 모드로 접수한 AI 작업의 상태를 조회합니다. 끝난 작업은 일정 시간이 지나면 조회되지 않습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    CommonResponse<AiJobReadDto.Response> getJob(
+            @Parameter(description = "작업 ID")
+            @PathVariable(name = "job-id") String jobId
+    );
+
+    @Operation(
+            summary = "AI 작업 취소",
+            description = "대기 중인 작업만 취소되며 실행되지 않습니다. 이미 실행 중이거나 끝난 작업은 그대로 반환되므로 응답의 상태를 확인해야 합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "취소 성공")
+    })
+    CommonResponse<AiJobReadDto.Response> cancelJob(
+            @Parameter(description = "작업 ID")
+            @PathVariable(name = "job-id") String jobId
+    );
+}
@@ -1,11 +1,14 @@
 package com.ssafy.projectree.global.docs;
 
+import com.ssafy.projectree.domain.ai.api.dto.AiJobReadDto;
 import com.ssafy.projectree.domain.member.model.entity.Member;
 import com.ssafy.projectree.domain.node.api.dto.CandidateCreateDto;
 import com.ssafy.projectree.domain.node.api.dto.CustomNodeDto;
 import com.ssafy.projectree.domain.node.api.dto.CustomTechCreateDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeChangeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeCreateDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeSubtreeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.NodeTreeReadDto;
 import com.ssafy.projectree.domain.node.api.dto.TechStackRecommendDto;
 import com.ssafy.projectree.global.api.response.CommonResponse;
@@ -17,8 +20,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
 
 @Tag(name = "Node", description = "노드 및 워크스페이스 트리 관련 API")
 public interface NodeDocsController {
@@ -38,7 +46,10 @@ public interface NodeDocsController {
 
     @Operation(
             summary = "노드 트리 정보 조회",
-            description = "워크스페이스 최초 진입시 워크스페이스의 노드 트리 전체를 조회합니다."
+            description = """
+                    워크스페이스 최초 진입시 워크스페이스의 노드 트리 전체를 조회합니다.
+                    응답의 ETag를 If-None-Match 헤더로 보내면, 그 사이 워크스페이스에 변경이 없을 경우 본문 없이 304를 응답합니다.
+                    """
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -117,9 +128,78 @@ public interface NodeDocsController {
     })
     CommonResponse<NodeTreeReadDto.Response> getNodeTree(
             @Parameter(description = "조회할 워크스페이스의 ID", example = "10")
-            @PathVariable(value = "workspace-id") Long workspaceId
+            @PathVariable(value = "workspace-id") Long workspaceId,
+            @Parameter(hidden = true) WebRequest webRequest
+    );
+
+    @Operation(
+            summary = "노드 트리 변경분 조회",
+            description = """
+                    since 시퀀스 이후에 생성/수정/이동/삭제된 노드만 조회합니다.
+                    응답의 sequence를 다음 조회의 since로 전달합니다.
+                    since가 없거나 보존 기간이 지나 변경 이력이 삭제된 경우 snapshot=true와 함께 전체 트리를 응답합니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    CommonResponse<NodeChangeReadDto.Response> getNodeChanges(
+            @Parameter(description = "조회할 워크스페이스의 ID", example = "10")
+            @PathVariable(value = "workspace-id") Long workspaceId,
+            @Parameter(description = "마지막으로 받은 sequence (최초 조회 시 생략)", example = "128")
+            @RequestParam(name = "since", required = false) Long since
+    );
+
+    @Operation(
+            summary = "서브트리 부분 조회",
+            description = """
+                    특정 노드의 하위 노드를 depth 단계까지만 조회합니다. (기준 노드 자신은 포함하지 않음)
+                    각 노드에는 직계 자식 수(childCount)가 포함되어, 펼치기 가능 여부 표시에 사용할 수 있습니다.
+                    결과는 (깊이, 노드 ID) 오름차순이므로 부모 노드는 항상 자식보다 먼저 내려갑니다.
+                    hasNext가 true이면 nextCursorDepth, nextCursorId를 cursorDepth, cursorId로 전달하여 다음 페이지를 조회합니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    CommonResponse<NodeSubtreeReadDto.Response> getSubtree(
+            @Parameter(description = "기준 노드의 ID", example = "1")
+            @PathVariable(value = "node-id") Long nodeId,
+            @Parameter(description = "조회할 최대 깊이 (1 ~ 10)", example = "1")
+            @RequestParam(name = "depth", defaultValue = "1") int depth,
+            @Parameter(description = "이전 페이지의 nextCursorDepth (첫 페이지는 생략)", example = "2")
+            @RequestParam(name = "cursorDepth", required = false) Integer cursorDepth,
+            @Parameter(description = "이전 페이지의 nextCursorId (첫 페이지는 생략)", example = "1532")
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @Parameter(description = "페이지 크기 (1 ~ 500)", example = "200")
+            @RequestParam(name = "size", defaultValue = "200") int size
     );
 
+    @Operation(
+            summary = "노드 트리 스트리밍 조회",
+            description = """
+                    대용량 워크스페이스를 위한 노드 트리 조회입니다.
+                    응답 본문을 한 번에 만들지 않고 응답 스트림에 바로 직렬화합니다.
+                    응답 형식과 ETag(If-None-Match 시 304)는 노드 트리 정보 조회(GET /workspaces/{workspace-id})와 같습니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = NodeTreeReadDto.Response.class)
+                    )
+            )
+    })
+    void streamNodeTree(
+            @Parameter(description = "조회할 워크스페이스의 ID", example = "10")
+            @PathVariable(value = "workspace-id") Long workspaceId,
+            @Parameter(hidden = true) WebRequest webRequest,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException;
+
     @Operation(
             summary = "노드 생성",
             description = "후보 노드(Candidate)를 선택하여 새로운 자식 노드를 생성합니다."
@@ -135,7 +215,35 @@ public interface NodeDocsController {
             @RequestBody NodeCreateDto.Request request
     );
 
+    @Operation(
+            summary = "노드 생성 (작업 모드)",
+            description = """
+                    노드 생성을 AI 작업으로 접수하고 작업 ID를 바로 반환합니다.
+                    생성된 노드는 기존과 같이 CRDT로 전달되며, 작업 상태는 GET /ai-jobs/{job-id}로 조회할 수 있습니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 접수")
+    })
+    CommonResponse<AiJobReadDto.Response> submitCreateNode(
+            @Parameter(description = "선택한 후보 노드 ID", example = "10")
+            @PathVariable(name = "candidate-id") Long candidateId,
+            @Parameter(description = "부모 노드 ID", example = "1")
+            @PathVariable(name = "node-id") Long parentId,
+            @RequestBody NodeCreateDto.Request request
+    );
 
+    @Operation(
+            summary = "후보 노드 생성 (작업 모드)",
+            description = "후보 노드 생성을 AI 작업으로 접수하고 작업 ID를 바로 반환합니다. 생성된 후보는 CRDT로 전달됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 접수")
+    })
+    CommonResponse<AiJobReadDto.Response> submitGenerateCandidates(
+            @Parameter(description = "부모 노드 ID", example = "1")
+            @PathVariable(name = "node-id") Long parentId
+    );
 
     @Operation(
             summary = "후보 노드 삭제",
@@ -162,6 +270,18 @@ public interface NodeDocsController {
             @PathVariable(name = "node-id") Long nodeId
     );
 
+    @Operation(
+            summary = "기술 스택 추천 (작업 모드)",
+            description = "기술 스택 추천을 AI 작업으로 접수하고 작업 ID를 바로 반환합니다. 추천 결과는 CRDT로 전달됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 접수")
+    })
+    CommonResponse<AiJobReadDto.Response> submitRecommendTechStack(
+            @Parameter(description = "노드 ID", example = "1")
+            @PathVariable(name = "node-id") Long nodeId
+    );
+
     @Operation(
             summary = "노드 커스텀 기술 스택 추가",
             description = "특정 노드에 사용자가 직접 기술 스택을 추가합니다."
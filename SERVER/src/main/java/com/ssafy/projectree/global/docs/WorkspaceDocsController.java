@@ -5,6 +5,7 @@ import com.ssafy.projectree.domain.member.model.entity.Member;
 import com.ssafy.projectree.domain.workspace.api.dto.WorkspaceDto;
 import com.ssafy.projectree.global.api.response.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -99,7 +101,7 @@ public interface WorkspaceDocsController {
     @PatchMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     CommonResponse<?> update(Member member, WorkspaceDto.UpdateRequest dto, List<MultipartFile> multipartFiles) throws IOException;
 
-    @Operation(summary = "워크 스페이스 상세조회 API", description = "워크 스페이스 진입 시 보여주는 정보입니다.")
+    @Operation(summary = "워크 스페이스 상세조회 API", description = "워크 스페이스 진입 시 보여주는 정보입니다. If-None-Match가 현재 ETag와 같으면 304를 응답합니다.")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
@@ -110,7 +112,7 @@ public interface WorkspaceDocsController {
                     )),
     })
     @GetMapping()
-    CommonResponse<?> details(Member member, Long workspaceId);
+    CommonResponse<?> details(Member member, Long workspaceId, @Parameter(hidden = true) WebRequest webRequest);
 
     @Operation(summary = "워크 스페이스 파일 조회 API", description = "워크 스페이스 내에 업로드된 파일들을 페이징 처리하여 조회합니다.")
     @ApiResponses({
@@ -0,0 +1,276 @@
+package com.ssafy.projectree.global.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 백그라운드 메일 발송 큐
+ * 발송 스레드마다 SMTP 연결 하나를 열어 두고 재사용하며(연결 수 = mail-queue.connections),
+ * 짧은 시간(linger) 안에 들어온 메일은 한 번의 SMTP 연결로 묶어서 보낸다.
+ * 연결 오류 등 일시적인 실패는 연결을 다시 맺고 백오프 후 재시도하며, 수신자 오류처럼 영구적인 실패는 바로 실패로 돌려준다.
+ * 큐 길이(mail.queue.depth), 발송 시간(mail.send.latency), 대기 시간(mail.queue.wait) 등을 메트릭으로 기록한다.
+ * submit이 돌려준 future는 발송 스레드가 메일을 가져가기 전까지만 취소할 수 있으며, 취소된 메일은 보내지 않는다.
+ */
+@Slf4j
+@Component
+public class MailQueue {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<PendingMail> queue;
+    private final List<Thread> senders = new ArrayList<>();
+
+    private final int connections;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration idleTimeout;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    private final Timer sendLatency;
+    private final Timer queueWait;
+    private final DistributionSummary batchSizes;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+
+    private volatile boolean running;
+
+    public MailQueue(
+            JavaMailSenderImpl mailSender,
+            MeterRegistry meterRegistry,
+            @Value("${mail-queue.capacity:1000}") int capacity,
+            @Value("${mail-queue.connections:2}") int connections,
+            @Value("${mail-queue.batch-size:20}") int batchSize,
+            @Value("${mail-queue.linger:200ms}") Duration linger,
+            @Value("${mail-queue.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${mail-queue.max-retries:3}") int maxRetries,
+            @Value("${mail-queue.retry-backoff:1s}") Duration retryBackoff
+    ) {
+        this.mailSender = mailSender;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.connections = connections;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.idleTimeout = idleTimeout;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+
+        this.sendLatency = Timer.builder("mail.send.latency").description("메일 묶음 하나를 보내는 데 걸린 시간").register(meterRegistry);
+        this.queueWait = Timer.builder("mail.queue.wait").description("큐에 들어와서 발송되기까지 걸린 시간").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("mail.send.batch.size").register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.sent", "result", "success");
+        this.failedCounter = meterRegistry.counter("mail.sent", "result", "failure");
+        this.retriedCounter = meterRegistry.counter("mail.send.retried");
+        meterRegistry.gaugeCollectionSize("mail.queue.depth", List.of(), queue);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < connections; i++) {
+            Thread sender = Thread.ofPlatform().name("mail-sender-" + i).daemon().unstarted(this::runSender);
+            senders.add(sender);
+            sender.start();
+        }
+    }
+
+    // 남은 메일을 보낼 시간을 준 뒤 종료 (보내지 못한 메일은 아웃박스에서 다시 전달됨)
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread sender : senders) {
+            sender.join(Duration.ofSeconds(10));
+            sender.interrupt();
+        }
+        PendingMail left;
+        while ((left = queue.poll()) != null) {
+            left.result().completeExceptionally(new RejectedExecutionException("Mail queue stopped"));
+        }
+    }
+
+    /**
+     * 메일을 큐에 넣는다. 반환된 future는 발송이 끝나면 완료되고, 최종 실패 시 예외로 완료된다.
+     * 큐가 가득 차면 즉시 실패로 돌려준다.
+     * 발송이 시작되기 전에 future를 취소하면 메일은 보내지 않으며, 이미 시작된 뒤에는 cancel이 false를 반환한다.
+     */
+    public CompletableFuture<Void> submit(SimpleMailMessage message) {
+        PendingMail mail = new PendingMail(message, System.nanoTime(), new MailResult());
+        if (!running || !queue.offer(mail)) {
+            mail.result().completeExceptionally(new RejectedExecutionException("Mail queue is full"));
+        }
+        return mail.result();
+    }
+
+    private void runSender() {
+        Transport transport = null;
+        try {
+            while (running || !queue.isEmpty()) {
+                List<PendingMail> batch = nextBatch();
+                if (batch.isEmpty()) {
+                    // 한동안 보낼 메일이 없으면 연결을 닫아 SMTP 서버의 유휴 연결 종료에 대비
+                    transport = close(transport);
+                    continue;
+                }
+                transport = sendWithRetry(transport, batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close(transport);
+        }
+    }
+
+    // 첫 메일을 기다린 뒤 linger 동안 더 들어오는 메일을 batchSize까지 모은다. (취소된 메일은 건너뜀)
+    private List<PendingMail> nextBatch() throws InterruptedException {
+        List<PendingMail> batch = new ArrayList<>(batchSize);
+        long idleDeadline = System.nanoTime() + idleTimeout.toNanos();
+        PendingMail first;
+        do {
+            first = queue.poll(Math.max(0, idleDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (first == null) {
+                return batch;
+            }
+        } while (!first.result().claim());
+        batch.add(first);
+
+        long deadline = System.nanoTime() + linger.toNanos();
+        while (batch.size() < batchSize) {
+            PendingMail next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            if (next.result().claim()) {
+                batch.add(next);
+            }
+        }
+        return batch;
+    }
+
+    private Transport sendWithRetry(Transport transport, List<PendingMail> batch) throws InterruptedException {
+        Deque<PendingMail> remaining = new ArrayDeque<>(batch);
+        batchSizes.record(batch.size());
+        for (int attempt = 0; ; attempt++) {
+            try {
+                transport = connected(transport);
+                send(transport, remaining);
+                return transport;
+            } catch (MessagingException e) {
+                // 연결이 끊겼거나 서버가 일시적으로 거부한 경우: 연결을 새로 맺고 남은 메일만 재시도
+                transport = close(transport);
+                if (attempt >= maxRetries) {
+                    log.error("Failed to send {} mails after {} retries", remaining.size(), attempt, e);
+                    remaining.forEach(mail -> fail(mail, e));
+                    return null;
+                }
+                retriedCounter.increment(remaining.size());
+                log.warn("Mail send failed, retrying {} mails (attempt {}): {}", remaining.size(), attempt + 1, e.getMessage());
+                Thread.sleep(retryBackoff.multipliedBy(1L << attempt).toMillis());
+            }
+        }
+    }
+
+    // 남은 메일을 같은 연결로 차례대로 보낸다. 보낸 메일은 remaining에서 빠지므로 연결 오류 시 남은 것만 재시도된다.
+    private void send(Transport transport, Deque<PendingMail> remaining) throws MessagingException {
+        long start = System.nanoTime();
+        try {
+            PendingMail mail;
+            while ((mail = remaining.peekFirst()) != null) {
+                try {
+                    MimeMessage message = toMimeMessage(mail.message());
+                    transport.sendMessage(message, message.getAllRecipients());
+                    queueWait.record(System.nanoTime() - mail.enqueuedAt(), TimeUnit.NANOSECONDS);
+                    sentCounter.increment();
+                    mail.result().complete(null);
+                } catch (SendFailedException e) {
+                    // 연결이 끊겨서 난 실패면 재연결 후 재시도
+                    if (!transport.isConnected()) {
+                        throw e;
+                    }
+                    // 수신자 주소 오류 등 서버가 이 메일만 거부한 경우: 이 메일만 실패 처리 (아웃박스가 나중에 다시 시도)
+                    fail(mail, e);
+                }
+                remaining.pollFirst();
+            }
+        } finally {
+            sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Transport connected(Transport transport) throws MessagingException {
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        Transport connected = mailSender.getSession().getTransport(protocol);
+        connected.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        return connected;
+    }
+
+    private Transport close(Transport transport) {
+        if (transport != null) {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Failed to close SMTP connection", e);
+            }
+        }
+        return null;
+    }
+
+    private MimeMessage toMimeMessage(SimpleMailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        message.copyTo(new MimeMailMessage(mimeMessage));
+        mimeMessage.saveChanges();
+        return mimeMessage;
+    }
+
+    private void fail(PendingMail mail, Exception e) {
+        failedCounter.increment();
+        mail.result().completeExceptionally(e);
+    }
+
+    private record PendingMail(SimpleMailMessage message, long enqueuedAt, MailResult result) {
+    }
+
+    // 발송 스레드가 가져간(claim) 뒤에는 취소할 수 없는 future
+    private static final class MailResult extends CompletableFuture<Void> {
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        // 취소되거나 이미 끝난 메일이면 false
+        boolean claim() {
+            return claimed.compareAndSet(false, true) && !isDone();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return claimed.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.ssafy.projectree.global.outbox;
+
+import com.ssafy.projectree.global.async.CoalescingTask;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스 이벤트를 선점하여 유형별 OutboxHandler로 전달한다.
+ * 커밋 직후 바로 한 번 전달을 시도하고, 실패한 이벤트는 지수 백오프로 주기적으로 재시도한다.
+ * 전달은 DB 트랜잭션과 스케줄러 스레드 밖(outboxExecutor)에서 시작되며, 결과는 전달이 끝난 시점의 콜백에서 기록하므로
+ * 느린 SMTP/S3 호출이 커넥션이나 다른 스케줄 작업을 붙잡지 않는다.
+ * 결과는 outbox.dispatched{type, result} 메트릭으로 기록한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<OutboxEventType, OutboxHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    private final Executor outboxExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final int batchSize;
+    private final int maxInFlight;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration deliveryTimeout;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration retention;
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            List<OutboxHandler> handlers,
+            @Qualifier("outboxExecutor") Executor outboxExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.batch-size:50}") int batchSize,
+            @Value("${outbox.max-in-flight:200}") int maxInFlight,
+            @Value("${outbox.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.lease:5m}") Duration lease,
+            @Value("${outbox.delivery-timeout:1m}") Duration deliveryTimeout,
+            @Value("${outbox.retry-backoff:10s}") Duration retryBackoff,
+            @Value("${outbox.max-retry-backoff:30m}") Duration maxRetryBackoff,
+            @Value("${outbox.retention:3d}") Duration retention
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.outboxExecutor = outboxExecutor;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.deliveryTimeout = deliveryTimeout;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.retention = retention;
+        meterRegistry.gauge("outbox.in.flight", inFlight);
+    }
+
+    // 커밋 직후(트랜잭션 밖에서 저장된 경우 즉시) 전달 예약
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(OutboxEnqueuedEvent event) {
+        requestDispatch();
+    }
+
+    // 스케줄러 스레드에서는 예약만 하고 바로 반환 (다른 스케줄 작업이 전달을 기다리지 않도록)
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:5000}")
+    public void poll() {
+        requestDispatch();
+    }
+
+    @Scheduled(cron = "${outbox.purge-cron:0 30 4 * * *}")
+    public void schedulePurge() {
+        outboxExecutor.execute(CoalescingTask.of("outbox-purge", this::purgeProcessed));
+    }
+
+    /**
+     * 전달할 이벤트를 선점하여 전달을 시작한다. 결과는 기다리지 않는다.
+     * 진행 중인 전달이 max-in-flight에 도달하면 선점을 멈추고, 전달이 끝나 자리가 나면 다시 예약된다.
+     */
+    public void dispatch() {
+        // 이미 다른 스레드가 전달 중이면 건너뜀 (남은 이벤트는 그 스레드가 이어서 처리)
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+        try {
+            int limit;
+            List<Long> claimed;
+            do {
+                limit = Math.min(batchSize, maxInFlight - inFlight.get());
+                if (limit <= 0) {
+                    return;
+                }
+                LocalDateTime now = LocalDateTime.now();
+                claimed = outboxEventRepository.claim(now, now.plus(lease), limit);
+                outboxEventRepository.findAllById(claimed).forEach(this::deliver);
+            } while (claimed.size() == limit);
+        } catch (Exception e) {
+            log.error("Outbox dispatch stopped, retrying next interval", e);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    public void purgeProcessed() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int deleted = outboxEventRepository.deleteProcessedBefore(cutoff);
+        log.info("Purged {} processed outbox events older than {}", deleted, cutoff);
+    }
+
+    // 전달을 시작하고 완료 콜백에서 결과를 기록 (같은 유형의 이벤트는 핸들러가 한 번에 묶어 보낼 수 있음)
+    private void deliver(OutboxEvent event) {
+        inFlight.incrementAndGet();
+        OutboxHandler handler = handlers.get(event.getType());
+        CompletableFuture<Void> delivery;
+        try {
+            delivery = handler == null
+                    ? CompletableFuture.failedFuture(new IllegalStateException("No outbox handler for " + event.getType()))
+                    : handler.handleAsync(event.getPayload());
+        } catch (RuntimeException e) {
+            delivery = CompletableFuture.failedFuture(e);
+        }
+        delivery.whenComplete((ignored, e) -> completed(event, e));
+        watch(event, delivery);
+    }
+
+    private void completed(OutboxEvent event, Throwable e) {
+        try {
+            if (e == null) {
+                outboxEventRepository.markSent(event.getId(), LocalDateTime.now());
+                count(event, "success");
+            } else {
+                failed(event, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            }
+        } catch (Exception ex) {
+            // 선점은 lease가 지나면 풀리므로 다음 전달에서 다시 처리됨
+            log.error("Failed to record outbox event {} result", event.getId(), ex);
+        } finally {
+            // 자리가 없어 선점을 멈췄던 경우 다시 예약
+            if (inFlight.getAndDecrement() == maxInFlight) {
+                requestDispatch();
+            }
+        }
+    }
+
+    /**
+     * delivery-timeout 안에 끝나지 않은 전달은 취소하여 재시도 대상으로 돌린다.
+     * 이미 발송이 시작되어 취소할 수 없으면, 중복 전달되지 않도록 끝날 때까지 선점을 연장한다.
+     */
+    private void watch(OutboxEvent event, CompletableFuture<Void> delivery) {
+        if (delivery.isDone()) {
+            return;
+        }
+        CompletableFuture.delayedExecutor(deliveryTimeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            // 취소되면 완료 콜백에서 재시도로 기록됨
+            if (delivery.isDone() || delivery.cancel(false)) {
+                return;
+            }
+            try {
+                outboxEventRepository.extendLease(event.getId(), LocalDateTime.now().plus(lease));
+            } catch (Exception e) {
+                log.warn("Failed to extend lease of outbox event {}", event.getId(), e);
+            }
+            watch(event, delivery);
+        });
+    }
+
+    private void requestDispatch() {
+        outboxExecutor.execute(CoalescingTask.of(OutboxDispatcher.class, this::dispatch));
+    }
+
+    private void failed(OutboxEvent event, Throwable e) {
+        String error = truncate(e.toString());
+        // attempts는 선점 시 이미 증가한 값
+        if (event.getAttempts() >= maxAttempts) {
+            outboxEventRepository.markFailed(event.getId(), LocalDateTime.now(), error);
+            count(event, "failed");
+            log.error("Outbox event {} ({}) failed after {} attempts", event.getId(), event.getType(), event.getAttempts(), e);
+            notifyFailed(event);
+        } else {
+            outboxEventRepository.scheduleRetry(event.getId(), LocalDateTime.now().plus(backoff(event.getAttempts())), error);
+            count(event, "retry");
+            log.warn("Outbox event {} ({}) attempt {} failed: {}", event.getId(), event.getType(), event.getAttempts(), error);
+        }
+    }
+
+    private void notifyFailed(OutboxEvent event) {
+        OutboxHandler handler = handlers.get(event.getType());
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.onFailed(event.getPayload());
+        } catch (Exception e) {
+            log.error("Outbox handler failed to clean up event {}", event.getId(), e);
+        }
+    }
+
+    // 10s, 20s, 40s ... 최대 maxRetryBackoff
+    private Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    private void count(OutboxEvent event, String result) {
+        meterRegistry.counter("outbox.dispatched", "type", event.getType().name(), "result", result).increment();
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
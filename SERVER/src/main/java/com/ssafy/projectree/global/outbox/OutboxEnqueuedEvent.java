@@ -0,0 +1,7 @@
+package com.ssafy.projectree.global.outbox;
+
+/**
+ * 아웃박스에 이벤트가 저장되었음을 알리는 애플리케이션 이벤트 (커밋 직후 전달을 시작하기 위함)
+ */
+public record OutboxEnqueuedEvent(Long outboxEventId) {
+}
@@ -0,0 +1,65 @@
+package com.ssafy.projectree.global.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스: 커밋 이후에 실행할 외부 작업(메일 발송, S3 업로드 등)
+ * 비즈니스 데이터와 같은 트랜잭션에서 저장되므로, 커밋된 작업만 OutboxDispatcher가 전달한다.
+ * 처리 후 보존 기간이 지나면 삭제되므로 soft delete를 쓰지 않는다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_event", indexes = {
+		@Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 30, nullable = false)
+	private OutboxEventType type;
+
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 10, nullable = false)
+	private OutboxStatus status;
+
+	// 지금까지 전달을 시도한 횟수 (선점 시 증가)
+	@Column(nullable = false)
+	private int attempts;
+
+	// 이 시각 이후에 전달 대상이 됨 (선점 중에는 선점 만료 시각)
+	@Column(name = "next_attempt_at", nullable = false, columnDefinition = "TIMESTAMP")
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "last_error", columnDefinition = "TEXT")
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMP")
+	private LocalDateTime createdAt;
+
+	@Column(name = "processed_at", columnDefinition = "TIMESTAMP")
+	private LocalDateTime processedAt;
+}
@@ -0,0 +1,88 @@
+package com.ssafy.projectree.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 전달할 이벤트를 선점: 선점 만료 시각까지 다른 디스패처(다른 인스턴스 포함)가 가져가지 않는다.
+    // SKIP LOCKED로 동시에 선점하는 디스패처끼리 서로 기다리지 않음 (UPDATE ... RETURNING이라 @Modifying 없이 결과를 받음)
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            UPDATE outbox_event
+            SET next_attempt_at = :leaseUntil,
+                attempts = attempts + 1
+            WHERE id IN (
+                SELECT id
+                FROM outbox_event
+                WHERE status = 'PENDING'
+                AND next_attempt_at <= :now
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """)
+    List<Long> claim(@Param("now") LocalDateTime now,
+                     @Param("leaseUntil") LocalDateTime leaseUntil,
+                     @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.status = com.ssafy.projectree.global.outbox.OutboxStatus.SENT,
+                e.processedAt = :processedAt,
+                e.lastError = null
+            WHERE e.id = :id
+            """)
+    void markSent(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.nextAttemptAt = :nextAttemptAt,
+                e.lastError = :error
+            WHERE e.id = :id
+            """)
+    void scheduleRetry(@Param("id") Long id,
+                       @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                       @Param("error") String error);
+
+    // 아직 전달 중인 이벤트의 선점 연장 (PENDING인 경우만)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.nextAttemptAt = :leaseUntil
+            WHERE e.id = :id
+            AND e.status = com.ssafy.projectree.global.outbox.OutboxStatus.PENDING
+            """)
+    void extendLease(@Param("id") Long id, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.status = com.ssafy.projectree.global.outbox.OutboxStatus.FAILED,
+                e.processedAt = :processedAt,
+                e.lastError = :error
+            WHERE e.id = :id
+            """)
+    void markFailed(@Param("id") Long id,
+                    @Param("processedAt") LocalDateTime processedAt,
+                    @Param("error") String error);
+
+    // 처리가 끝난(SENT/FAILED) 이벤트 중 보존 기간이 지난 것 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status <> com.ssafy.projectree.global.outbox.OutboxStatus.PENDING AND e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,6 @@
+package com.ssafy.projectree.global.outbox;
+
+public enum OutboxEventType {
+    INVITE_EMAIL,
+    FILE_UPLOAD
+}
@@ -0,0 +1,36 @@
+package com.ssafy.projectree.global.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 아웃박스 이벤트 유형별 실제 전달 로직
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로(at-least-once) 반복 실행해도 결과가 같도록 구현한다.
+ */
+public interface OutboxHandler {
+
+    OutboxEventType type();
+
+    /**
+     * 예외가 발생하면 재시도 대상이 된다.
+     */
+    void handle(String payload) throws Exception;
+
+    /**
+     * max-attempts를 넘겨 FAILED로 남을 때 한 번 호출된다. 전달을 기다리던 데이터를 정리할 때 재정의한다.
+     */
+    default void onFailed(String payload) {
+    }
+
+    /**
+     * 전달을 시작하고 완료 시점을 future로 돌려준다. 기본 구현은 handle을 바로 실행한다.
+     * 한 번에 선점된 이벤트를 모두 시작한 뒤 결과를 기다리므로, 묶어서 보내는 핸들러(메일 등)는 이를 재정의한다.
+     */
+    default CompletableFuture<Void> handleAsync(String payload) {
+        try {
+            handle(payload);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
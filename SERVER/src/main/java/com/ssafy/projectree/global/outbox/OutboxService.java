@@ -0,0 +1,47 @@
+package com.ssafy.projectree.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.exception.BusinessLogicException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 작업을 바로 실행하지 않고 아웃박스에 기록한다.
+ * 호출한 트랜잭션에 참여하므로 롤백되면 작업도 함께 사라지고, 커밋되면 OutboxDispatcher가 전달한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void enqueue(OutboxEventType type, Object payload) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .type(type)
+                .payload(toJson(payload))
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+        eventPublisher.publishEvent(new OutboxEnqueuedEvent(event.getId()));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new BusinessLogicException(ErrorCode.SERVER_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssafy.projectree.global.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
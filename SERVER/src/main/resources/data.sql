@@ -3,4 +3,13 @@ DROP TRIGGER IF EXISTS trg_auto_identifier_on_tree ON node_tree;
 CREATE TRIGGER trg_auto_identifier_on_tree
     AFTER INSERT ON node_tree
     FOR EACH ROW
-    EXECUTE FUNCTION generate_identifier_from_closure();
\ No newline at end of file
+    EXECUTE FUNCTION generate_identifier_from_closure();
+
+-- node.workspace_id 백필: 컬럼 추가 이전에 생성된 노드에 소속 워크스페이스를 채운다.
+-- (이미 채워진 행은 건드리지 않으므로 매 기동 시 실행되어도 안전)
+UPDATE node n
+SET workspace_id = pn.workspace_id
+FROM node_tree nt
+JOIN project_node pn ON pn.node_id = nt.ancestor_id
+WHERE nt.descendant_id = n.id
+  AND n.workspace_id IS NULL;
@@ -0,0 +1,179 @@
+package com.ssafy.projectree.domain.ai.job;
+
+import com.ssafy.projectree.domain.ai.lock.LockType;
+import com.ssafy.projectree.domain.ai.lock.utils.SimpleLockService;
+import com.ssafy.projectree.domain.ai.lock.utils.SingleFlight;
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.async.BoundedTaskExecutor;
+import com.ssafy.projectree.global.async.OverloadPolicy;
+import com.ssafy.projectree.global.exception.AIServiceException;
+import com.ssafy.projectree.global.exception.BusinessLogicException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiJobServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedTaskExecutor executor;
+    private SingleFlight singleFlight;
+    private AiJobService aiJobService;
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 1개, 대기열 1개
+        executor = new BoundedTaskExecutor("inference", OverloadPolicy.ABORT, meterRegistry);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        singleFlight = new SingleFlight(new SimpleLockService(), meterRegistry);
+        aiJobService = new AiJobService(executor, singleFlight, meterRegistry, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업은 바로 접수되고, 끝나기 전 같은 대상의 요청은 진행 중인 작업에 합쳐지며, 완료 후 결과를 조회할 수 있다.")
+    void submitAndComplete() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+
+        AiJob job = aiJobService.submit(LockType.TECH, 1L, () -> {
+            release.await();
+            return "done";
+        });
+
+        assertThat(job.getStatus()).isIn(AiJobStatus.QUEUED, AiJobStatus.RUNNING);
+        assertThat(aiJobService.submit(LockType.TECH, 1L, () -> "dup")).isSameAs(job);
+        assertThat(meterRegistry.get("ai.request.deduplicated").tag("type", "TECH").tag("mode", "job").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        waitUntil(() -> aiJobService.get(job.getId()).getStatus() == AiJobStatus.SUCCEEDED);
+        assertThat(aiJobService.get(job.getId()).getResult()).isEqualTo("done");
+        assertThat(meterRegistry.get("ai.job.duration").tag("type", "TECH").tag("status", "SUCCEEDED").timer().count())
+                .isEqualTo(1);
+
+        // 끝난 대상은 새 작업으로 실행됨
+        AiJob next = aiJobService.submit(LockType.TECH, 1L, () -> "again");
+        assertThat(next.getId()).isNotEqualTo(job.getId());
+        waitUntil(() -> next.getStatus() == AiJobStatus.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("작업이 실행 중인 대상에 동기 요청이 들어오면 거절되지 않고 작업의 결과를 함께 받는다.")
+    void shareRunningJobWithSyncRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AiJob job = aiJobService.submit(LockType.CANDIDATE, 5L, () -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "candidates";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Object> sync = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute(LockType.CANDIDATE, "5", () -> "sync"));
+        waitUntil(() -> meterRegistry.find("ai.request.deduplicated").tag("mode", "sync").counter() != null);
+        release.countDown();
+
+        assertThat(sync.get(5, TimeUnit.SECONDS)).isEqualTo("candidates");
+        waitUntil(() -> job.getStatus() == AiJobStatus.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("실행 스레드와 대기열이 가득 차면 AI_JOB_OVERLOADED_ERROR로 거절된다.")
+    void rejectWhenOverloaded() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            aiJobService.submit(LockType.CANDIDATE, 1L, () -> release.await(5, TimeUnit.SECONDS));
+            aiJobService.submit(LockType.CANDIDATE, 2L, () -> release.await(5, TimeUnit.SECONDS));
+
+            assertThatThrownBy(() -> aiJobService.submit(LockType.CANDIDATE, 3L, () -> "rejected"))
+                    .isInstanceOf(BusinessLogicException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.AI_JOB_OVERLOADED_ERROR);
+
+            // 거절된 대상은 잡혀 있지 않아야 함
+            release.countDown();
+            waitUntil(() -> executor.getThreadPoolExecutor().getActiveCount() == 0
+                            && executor.getThreadPoolExecutor().getQueue().isEmpty());
+            assertThat(aiJobService.submit(LockType.CANDIDATE, 3L, () -> "accepted")).isNotNull();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업은 취소되어 실행되지 않고, 실행 중인 작업은 취소되지 않고 끝까지 실행된다.")
+    void cancelOnlyQueuedJobs() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AiJob running = aiJobService.submit(LockType.NODE, 1L, () -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "done";
+        });
+        AiJob queued = aiJobService.submit(LockType.NODE, 2L, () -> "never");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(aiJobService.cancel(queued.getId()).getStatus()).isEqualTo(AiJobStatus.CANCELLED);
+        assertThat(aiJobService.cancel(running.getId()).getStatus()).isEqualTo(AiJobStatus.RUNNING);
+
+        release.countDown();
+        waitUntil(() -> running.getStatus() == AiJobStatus.SUCCEEDED);
+        assertThat(running.getResult()).isEqualTo("done");
+        assertThat(queued.getResult()).isNull();
+        assertThat(queued.getStatus()).isEqualTo(AiJobStatus.CANCELLED);
+
+        // 취소된 대상은 다시 요청할 수 있음 (취소된 대기 작업이 대기열에서 빠질 때까지 기다림)
+        waitUntil(() -> executor.getThreadPoolExecutor().getQueue().isEmpty());
+        AiJob retry = aiJobService.submit(LockType.NODE, 2L, () -> "retry");
+        waitUntil(() -> retry.getStatus() == AiJobStatus.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면(Error 포함) 에러 코드와 메시지가 기록되고, 없는 작업 조회는 AI_JOB_NOT_FOUND_ERROR가 발생한다.")
+    void recordFailure() throws InterruptedException {
+        AiJob job = aiJobService.submit(LockType.TECH, 9L, () -> {
+            throw new AIServiceException(ErrorCode.TECH_RECOMMEND_ERROR, "추천 실패");
+        });
+
+        waitUntil(() -> job.getStatus() == AiJobStatus.FAILED);
+        assertThat(job.getErrorCode()).isEqualTo(ErrorCode.TECH_RECOMMEND_ERROR);
+        assertThat(job.getMessage()).isEqualTo("추천 실패");
+
+        // Error가 나도 RUNNING으로 남지 않고 실패로 끝남
+        AiJob broken = aiJobService.submit(LockType.TECH, 10L, () -> {
+            throw new StackOverflowError();
+        });
+        waitUntil(() -> broken.getStatus() == AiJobStatus.FAILED);
+        assertThat(broken.getErrorCode()).isEqualTo(ErrorCode.SERVER_ERROR);
+        assertThat(broken.getFinishedAt()).isNotNull();
+
+        assertThatThrownBy(() -> aiJobService.get("unknown"))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AI_JOB_NOT_FOUND_ERROR);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건을 기다리는 중 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.ssafy.projectree.domain.ai.lock.utils;
+
+import com.ssafy.projectree.domain.ai.lock.LockType;
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.exception.AIServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(new SimpleLockService(), meterRegistry);
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실행 중인 요청과 같은 대상의 요청은 다시 실행되지 않고 같은 결과를 받는다.")
+    void shareInFlightResult() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Future<String>> results = submitConcurrently(() -> singleFlight.execute(LockType.CANDIDATE, "1", () -> {
+            executions.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "candidates";
+        }));
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("candidates");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.request.deduplicated").tag("type", "CANDIDATE").tag("mode", "sync").counter().count())
+                .isEqualTo(CALLERS - 1);
+
+        // 끝난 뒤의 요청은 새로 실행됨
+        assertThat(singleFlight.execute(LockType.CANDIDATE, "1", () -> "again")).isEqualTo("again");
+        assertThat(meterRegistry.get("ai.request.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("먼저 실행된 요청이 실패하면 합쳐진 요청도 같은 예외를 받는다.")
+    void shareInFlightFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitConcurrently(() -> singleFlight.execute(LockType.TECH, "7", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new AIServiceException(ErrorCode.TECH_RECOMMEND_ERROR, "추천 실패");
+        }));
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(AIServiceException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.TECH_RECOMMEND_ERROR);
+        }
+    }
+
+    @Test
+    @DisplayName("먼저 실행된 요청이 Error로 끝나도 합쳐진 요청은 멈추지 않고 같은 Error를 받는다.")
+    void shareInFlightError() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitConcurrently(() -> singleFlight.execute(LockType.TECH, "8", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new OutOfMemoryError("test");
+        }));
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(OutOfMemoryError.class);
+        }
+        assertThat(meterRegistry.get("ai.request.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 본문을 함께 넘기면 본문이 같은 요청만 합쳐지고, 다른 요청은 중복 요청으로 거절된다.")
+    void shareOnlySameRequest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitConcurrently(() -> singleFlight.execute(LockType.NODE, "3", "x=1", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "node";
+        }));
+
+        assertThatThrownBy(() -> singleFlight.execute(LockType.NODE, "3", "x=2", () -> "other"))
+                .isInstanceOf(AIServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DUPLICATE_REQUEST_ERROR);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("node");
+        }
+    }
+
+    // 첫 호출이 실행을 시작한 뒤 나머지 호출을 보냄
+    private List<Future<String>> submitConcurrently(Callable<String> call) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(callers.submit(call));
+        waitForInFlight();
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(callers.submit(call));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dedupCount() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return results;
+    }
+
+    private void waitForInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("ai.request.inflight").gauge().value() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double dedupCount() {
+        return meterRegistry.find("ai.request.deduplicated").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
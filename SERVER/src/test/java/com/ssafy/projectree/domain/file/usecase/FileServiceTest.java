@@ -0,0 +1,136 @@
+package com.ssafy.projectree.domain.file.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.projectree.domain.file.enums.FileStatus;
+import com.ssafy.projectree.domain.file.model.entity.FileProperty;
+import com.ssafy.projectree.domain.file.model.repository.FileRepository;
+import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
+import com.ssafy.projectree.global.outbox.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class FileServiceTest {
+
+    @TempDir
+    private Path spoolDir;
+
+    private final S3Service s3Service = mock(S3Service.class);
+    private final FileRepository fileRepository = mock(FileRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        given(fileRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+        fileService = new FileService(s3Service, fileRepository, mock(OutboxService.class), objectMapper, Runnable::run);
+        ReflectionTestUtils.setField(fileService, "spoolDir", spoolDir);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 S3 업로드를 위해 보관한 파일도 삭제된다.")
+    void deleteSpooledFilesOnRollback() throws IOException {
+        fileService.uploadFiles(files(), workspace());
+        assertThat(spooledFiles()).hasSize(2);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(spooledFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋되면 보관한 파일은 아웃박스 전달을 위해 남는다.")
+    void keepSpooledFilesOnCommit() throws IOException {
+        fileService.uploadFiles(files(), workspace());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(spooledFiles()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("업로드 전에 삭제된 파일은 S3에 올리지 않고 보관 파일만 지운다.")
+    void skipUploadOfDeletedFile() throws Exception {
+        Path spooled = Files.write(spoolDir.resolve("a.png"), new byte[]{1});
+        given(fileRepository.findById(10L)).willReturn(Optional.empty());
+
+        fileService.handleAsync(payload(spooled)).join();
+
+        verify(s3Service, never()).uploadFile(any(Path.class), any(), any(), any());
+        assertThat(spooled).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("업로드 도중 파일이 삭제되면 올린 객체를 지우고, 재시도를 모두 실패하면 FAILED로 남긴다.")
+    void cleanUpDeletedAndFailedUploads() throws Exception {
+        Path spooled = Files.write(spoolDir.resolve("a.png"), new byte[]{1});
+        FileProperty file = FileProperty.builder().id(10L).status(FileStatus.PENDING).build();
+        given(fileRepository.findById(10L)).willReturn(Optional.of(file));
+        given(fileRepository.markUploaded(eq(10L), any())).willReturn(0);
+
+        fileService.handleAsync(payload(spooled)).join();
+        verify(s3Service).delete(1L, "a.png");
+
+        Path failed = Files.write(spoolDir.resolve("a.png"), new byte[]{1});
+        fileService.onFailed(payload(failed));
+        verify(fileRepository).markFailed(10L);
+        assertThat(failed).doesNotExist();
+    }
+
+    private String payload(Path spooled) throws IOException {
+        return objectMapper.writeValueAsString(
+                new FileService.FileUpload(10L, 1L, "a.png", "image/png", spooled.toString()));
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+
+    private List<Path> spooledFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.toList();
+        }
+    }
+
+    private static List<MultipartFile> files() {
+        return List.of(
+                new MockMultipartFile("files", "a.png", "image/png", new byte[]{1, 2}),
+                new MockMultipartFile("files", "b.pdf", "application/pdf", new byte[]{3}));
+    }
+
+    private static Workspace workspace() {
+        Workspace workspace = new Workspace();
+        workspace.setId(1L);
+        return workspace;
+    }
+}
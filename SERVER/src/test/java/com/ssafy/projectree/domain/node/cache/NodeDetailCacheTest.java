@@ -0,0 +1,64 @@
+package com.ssafy.projectree.domain.node.cache;
+
+import com.ssafy.projectree.domain.node.api.dto.NodeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.schema.CandidateSchema;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NodeDetailCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NodeDetailCache cache = new NodeDetailCache(100, Duration.ofMinutes(10), meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("캐시된 상세는 다시 조회하지 않고, 변경은 캐시에 바로 반영되며 적중률이 기록된다.")
+    void writeThroughAndHitRatio() {
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        cache.update(1L, cached -> NodeReadDto.Response.builder()
+                .id(cached.getId())
+                .description("수정된 설명")
+                .candidates(cached.getCandidates())
+                .build());
+        NodeReadDto.Response updated = cache.get(1L, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(updated.getDescription()).isEqualTo("수정된 설명");
+        assertThat(meterRegistry.get("node.detail.cache.hit.ratio").gauge().value()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("파생 노드가 삭제되면 그 노드로 파생된 후보를 가진 상세만 무효화된다.")
+    void evictDetailsDerivedFromDeletedNodes() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        cache.evictDerivedFrom(List.of(101L));
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // 1번 노드의 후보만 101번 노드로 파생되어 있음
+        assertThat(loads).hasValue(3);
+    }
+
+    private NodeReadDto.Response load(Long nodeId) {
+        loads.incrementAndGet();
+        return NodeReadDto.Response.builder()
+                .id(nodeId)
+                .description("설명")
+                .candidates(List.of(CandidateSchema.builder()
+                        .id(nodeId * 10)
+                        .derivationId(nodeId == 1L ? 101L : null)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.ssafy.projectree.domain.node.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.projectree.domain.node.api.dto.NodePositionUpdateDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeTreeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NodeTreeCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final NodeTreeCache cache = new NodeTreeCache(10, Duration.ofMinutes(10), 1_000);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("캐시된 트리는 함께 저장된 버전과 반환되며, 현재 버전이 더 높으면 (다른 인스턴스의 변경) 다시 읽는다.")
+    void reloadWhenVersionMovesAhead() {
+        VersionedNodeTree first = cache.get(1L, 3, this::load);
+        VersionedNodeTree hit = cache.get(1L, 3, this::load);
+        VersionedNodeTree reloaded = cache.get(1L, 4, this::load);
+
+        assertThat(hit.tree()).isSameAs(first.tree());
+        assertThat(first.version()).isEqualTo(3);
+        assertThat(reloaded.version()).isEqualTo(4);
+        assertThat(reloaded.tree()).isNotSameAs(first.tree());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("여러 번의 좌표 변경은 트리를 복사하지 않고 모아 두었다가 다음 조회 때 한 번에 반영된다.")
+    void applyPatchedPositionsOnRead() {
+        VersionedNodeTree first = cache.get(1L, 0, this::load);
+
+        cache.patchPositions(List.of(item(10L, 1)));
+        cache.patchPositions(List.of(item(10L, 2)));
+        VersionedNodeTree patched = cache.get(1L, 0, this::load);
+
+        assertThat(first.tree().getTree().get(0).getPosition()).isNull();
+        assertThat(patched.tree().getTree().get(0).getPosition().getXPos()).isEqualTo(2);
+        assertThat(cache.get(1L, 0, this::load).tree()).isSameAs(patched.tree());
+        assertThat(loads).hasValue(1);
+    }
+
+    private NodePositionUpdateDto.NodePositionItem item(Long nodeId, double x) {
+        return objectMapper.convertValue(Map.of("nodeId", nodeId, "position", Map.of("x", x, "y", 0.0)),
+                NodePositionUpdateDto.NodePositionItem.class);
+    }
+
+    private NodeTreeReadDto.Response load(Long workspaceId) {
+        loads.incrementAndGet();
+        return NodeTreeReadDto.Response.builder()
+                .tree(List.of(NodeSchema.builder().id(workspaceId * 10).build()))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.ssafy.projectree.domain.node.model.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.projectree.domain.node.api.dto.NodePositionUpdateDto;
+import com.ssafy.projectree.domain.node.enums.NodeStatus;
+import com.ssafy.projectree.domain.node.model.entity.ProjectNode;
+import com.ssafy.projectree.domain.node.model.entity.StoryNode;
+import com.ssafy.projectree.domain.node.model.repository.custom.SubtreeNode;
+import com.ssafy.projectree.domain.workspace.enums.ServiceType;
+import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
+import com.ssafy.projectree.domain.workspace.model.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 위치 저장: 노드별 UPDATE(updatePosition)와 단일 UPDATE(updatePositions)의 지연 시간 비교
+ * 실제 DB가 필요하므로 필요할 때만 @Disabled를 해제하고 실행한다. (트랜잭션은 롤백됨)
+ */
+@SpringBootTest
+@Transactional
+@Slf4j
+class PositionUpdateBenchmarkTest {
+
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private NodeRepository nodeRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager em;
+
+    @ParameterizedTest(name = "{0}개 노드 배치")
+    @ValueSource(ints = {10, 100, 1_000})
+    @DisplayName("노드별 위치 UPDATE와 단일 UPDATE 지연 시간 비교")
+    @Disabled("벤치마크용 - 실제 DB 연결 후 필요할 때만 실행하세요.")
+    void comparePerNodeAndBulkPositionUpdate(int batchSize) {
+        List<Long> nodeIds = createNodes(batchSize);
+
+        long perNodeNanos = 0;
+        long bulkNanos = 0;
+        for (int round = 1; round <= ROUNDS; round++) {
+            List<NodePositionUpdateDto.NodePositionItem> items = positions(nodeIds, round);
+
+            long start = System.nanoTime();
+            for (NodePositionUpdateDto.NodePositionItem item : items) {
+                nodeRepository.updatePosition(item.getNodeId(), item.getPosition().getX(), item.getPosition().getY());
+            }
+            em.flush();
+            perNodeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            nodeRepository.updatePositions(items);
+            bulkNanos += System.nanoTime() - start;
+        }
+
+        log.info("[{} nodes] updatePosition x N: {} ms, updatePositions: {} ms (평균 {}회)",
+                batchSize, perNodeNanos / ROUNDS / 1_000_000.0, bulkNanos / ROUNDS / 1_000_000.0, ROUNDS);
+
+        Object x = em.createNativeQuery("SELECT x_pos FROM node WHERE id = :id")
+                .setParameter("id", nodeIds.get(0))
+                .getSingleResult();
+        assertThat(((Number) x).doubleValue()).isEqualTo(ROUNDS * 10.0);
+    }
+
+    private List<Long> createNodes(int count) {
+        Workspace workspace = Workspace.builder()
+                .name("Position Benchmark")
+                .serviceType(ServiceType.WEB)
+                .identifierPrefix("POS")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        workspaceRepository.save(workspace);
+
+        ProjectNode root = ProjectNode.builder()
+                .workspace(workspace)
+                .name("Position Benchmark Project")
+                .status(NodeStatus.TODO)
+                .xPos(0.0)
+                .yPos(0.0)
+                .build();
+        nodeRepository.saveRoot(root);
+
+        List<SubtreeNode> nodes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StoryNode story = new StoryNode();
+            story.setName("Story " + i);
+            story.setStatus(NodeStatus.TODO);
+            story.setXPos(0.0);
+            story.setYPos(0.0);
+            nodes.add(new SubtreeNode(story, 1));
+        }
+        nodeRepository.saveSubtree(root.getId(), nodes);
+        return nodes.stream().map(item -> item.node().getId()).toList();
+    }
+
+    // 요청 본문과 같은 형태로 만들어 DTO로 변환
+    private List<NodePositionUpdateDto.NodePositionItem> positions(List<Long> nodeIds, int round) {
+        return nodeIds.stream()
+                .map(id -> objectMapper.convertValue(
+                        Map.of("nodeId", id, "position", Map.of("x", round * 10.0, "y", round * 20.0)),
+                        NodePositionUpdateDto.NodePositionItem.class))
+                .toList();
+    }
+}
@@ -0,0 +1,140 @@
+package com.ssafy.projectree.domain.node.model.repository;
+
+import com.ssafy.projectree.domain.node.enums.NodeStatus;
+import com.ssafy.projectree.domain.node.enums.Priority;
+import com.ssafy.projectree.domain.node.enums.TaskType;
+import com.ssafy.projectree.domain.node.model.entity.AdvanceNode;
+import com.ssafy.projectree.domain.node.model.entity.EpicNode;
+import com.ssafy.projectree.domain.node.model.entity.Node;
+import com.ssafy.projectree.domain.node.model.entity.ProjectNode;
+import com.ssafy.projectree.domain.node.model.entity.StoryNode;
+import com.ssafy.projectree.domain.node.model.entity.TaskNode;
+import com.ssafy.projectree.domain.node.model.repository.custom.SubtreeNode;
+import com.ssafy.projectree.domain.workspace.enums.ServiceType;
+import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
+import com.ssafy.projectree.domain.workspace.model.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * saveWithParent(노드당 3회 왕복)와 saveSubtree(깊이별 고정 쿼리)의 저장 시간 비교
+ * 실제 DB가 필요하므로 필요할 때만 @Disabled를 해제하고 실행한다. (트랜잭션은 롤백됨)
+ */
+@SpringBootTest
+@Transactional
+@Slf4j
+class SubtreeSaveBenchmarkTest {
+
+    @Autowired
+    private NodeRepository nodeRepository;
+
+    @Autowired
+    private NodeTreeRepository nodeTreeRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @ParameterizedTest(name = "{0}개 노드")
+    @ValueSource(ints = {1_000, 10_000})
+    @DisplayName("노드 단건 저장과 서브트리 일괄 저장 시간 비교")
+    @Disabled("벤치마크용 - 실제 DB 연결 후 필요할 때만 실행하세요.")
+    void compareSaveWithParentAndSaveSubtree(int nodeCount) {
+        ProjectNode perNodeRoot = createProject("PER");
+        List<SubtreeNode> perNodeTree = buildTree(nodeCount);
+
+        long perNodeStart = System.nanoTime();
+        List<Long> parentStack = new ArrayList<>(List.of(perNodeRoot.getId()));
+        for (SubtreeNode item : perNodeTree) {
+            parentStack.subList(item.depth(), parentStack.size()).clear();
+            nodeRepository.saveWithParent(parentStack.get(item.depth() - 1), item.node());
+            parentStack.add(item.node().getId());
+        }
+        em.flush();
+        long perNodeMillis = (System.nanoTime() - perNodeStart) / 1_000_000;
+        em.clear();
+
+        ProjectNode subtreeRoot = createProject("SUB");
+        List<SubtreeNode> subtree = buildTree(nodeCount);
+
+        long subtreeStart = System.nanoTime();
+        nodeRepository.saveSubtree(subtreeRoot.getId(), subtree);
+        long subtreeMillis = (System.nanoTime() - subtreeStart) / 1_000_000;
+
+        log.info("[{} nodes] saveWithParent: {} ms, saveSubtree: {} ms", nodeCount, perNodeMillis, subtreeMillis);
+
+        // 두 방식 모두 같은 계층 정보가 만들어져야 한다.
+        assertThat(nodeTreeRepository.findDescendantIds(subtreeRoot.getId()))
+                .hasSize(nodeTreeRepository.findDescendantIds(perNodeRoot.getId()).size());
+    }
+
+    private ProjectNode createProject(String prefix) {
+        Workspace workspace = Workspace.builder()
+                .name("Benchmark " + prefix)
+                .serviceType(ServiceType.WEB)
+                .identifierPrefix(prefix)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        workspaceRepository.save(workspace);
+
+        ProjectNode root = ProjectNode.builder()
+                .workspace(workspace)
+                .name("Benchmark Project " + prefix)
+                .status(NodeStatus.TODO)
+                .xPos(0.0)
+                .yPos(0.0)
+                .build();
+        nodeRepository.saveRoot(root);
+        em.flush();
+        return root;
+    }
+
+    // Epic > Story > Task > Advance 구조를 DFS 순서로 nodeCount개 생성
+    private List<SubtreeNode> buildTree(int nodeCount) {
+        List<SubtreeNode> nodes = new ArrayList<>();
+        while (nodes.size() < nodeCount) {
+            nodes.add(new SubtreeNode(node(new EpicNode(), nodes.size()), 1));
+            for (int s = 0; s < 4 && nodes.size() < nodeCount; s++) {
+                nodes.add(new SubtreeNode(node(new StoryNode(), nodes.size()), 2));
+                for (int t = 0; t < 4 && nodes.size() < nodeCount; t++) {
+                    TaskNode task = (TaskNode) node(new TaskNode(), nodes.size());
+                    task.setType(TaskType.BE);
+                    task.setDifficult(3);
+                    nodes.add(new SubtreeNode(task, 3));
+                    for (int a = 0; a < 2 && nodes.size() < nodeCount; a++) {
+                        AdvanceNode advance = (AdvanceNode) node(new AdvanceNode(), nodes.size());
+                        advance.setDifficult(2);
+                        nodes.add(new SubtreeNode(advance, 4));
+                    }
+                }
+            }
+        }
+        return nodes;
+    }
+
+    private Node node(Node node, int index) {
+        node.setName("Node " + index);
+        node.setDescription("Benchmark node " + index);
+        node.setStatus(NodeStatus.TODO);
+        node.setPriority(Priority.P2);
+        node.setXPos((double) index);
+        node.setYPos(0.0);
+        return node;
+    }
+}
@@ -0,0 +1,275 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.projectree.domain.node.enums.CrdtEventType;
+import com.ssafy.projectree.domain.node.model.entity.CrdtPendingEvent;
+import com.ssafy.projectree.domain.node.model.repository.CrdtPendingEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class CrdtEventChannelTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<CrdtPendingEvent> pendingEvents = new CopyOnWriteArrayList<>();
+    private MockRestServiceServer crdtServer;
+    private RestClient restClient;
+    private CrdtEventChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        crdtServer = MockRestServiceServer.bindTo(builder).build();
+        restClient = builder.build();
+        HttpCrdtEventTransport transport = new HttpCrdtEventTransport(restClient,
+                "http://crdt", "/workspaces/{workspaceId}/nodes", "/batch");
+        channel = newChannel(transport, 30);
+    }
+
+    @Test
+    @DisplayName("주기 안에 들어온 이벤트는 워크스페이스별로 발생 순서대로 한 번의 요청에 묶여 전송된다.")
+    void batchEventsPerWorkspaceInOrder() {
+        crdtServer.expect(once(), requestTo("http://crdt/workspaces/1/nodes/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.events.length()").value(2))
+                .andExpect(jsonPath("$.events[0].type").value("NODE"))
+                .andExpect(jsonPath("$.events[0].nodeId").value(10))
+                .andExpect(jsonPath("$.events[1].type").value("TECH"))
+                .andExpect(jsonPath("$.events[1].nodeId").value(10))
+                .andRespond(withSuccess());
+        crdtServer.expect(once(), requestTo("http://crdt/workspaces/2/nodes/batch"))
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.events[0].type").value("CANDIDATE"))
+                .andRespond(withSuccess());
+
+        channel.publish(1L, CrdtEventType.NODE, 10L, Map.of("id", 10));
+        channel.publish(2L, CrdtEventType.CANDIDATE, 20L, Map.of("candidates", List.of()));
+        channel.publish(1L, CrdtEventType.TECH, 10L, Map.of("techs", List.of()));
+
+        channel.flushAll();
+
+        crdtServer.verify();
+        assertThat(meterRegistry.get("crdt.push.batch.size").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("crdt.push.latency").tag("result", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("crdt.push.delay").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 쌓이면 주기를 기다리지 않고 바로 전송한다.")
+    void sendImmediatelyWhenBatchIsFull() {
+        crdtServer.expect(once(), requestTo("http://crdt/workspaces/1/nodes/batch"))
+                .andExpect(jsonPath("$.events.length()").value(3))
+                .andExpect(jsonPath("$.events[2].nodeId").value(3))
+                .andRespond(withSuccess());
+
+        for (long nodeId = 1; nodeId <= 3; nodeId++) {
+            channel.publish(1L, CrdtEventType.NODE, nodeId, Map.of("id", nodeId));
+        }
+
+        crdtServer.verify();
+        assertThat(meterRegistry.get("crdt.push.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 이벤트는 저장되었다가 같은 멱등 키로 먼저 재전송되고, 그 사이 들어온 이벤트는 그 뒤에 전송된다.")
+    void redeliverFailedEventsInOrder() throws Exception {
+        List<String> bodies = new ArrayList<>();
+        crdtServer.expect(requestTo("http://crdt/workspaces/1/nodes/batch"))
+                .andExpect(request -> bodies.add(((MockClientHttpRequest) request).getBodyAsString()))
+                .andRespond(withServerError());
+        crdtServer.expect(requestTo("http://crdt/workspaces/1/nodes/batch"))
+                .andExpect(request -> bodies.add(((MockClientHttpRequest) request).getBodyAsString()))
+                .andRespond(withSuccess());
+        crdtServer.expect(requestTo("http://crdt/workspaces/1/nodes/batch"))
+                .andExpect(request -> bodies.add(((MockClientHttpRequest) request).getBodyAsString()))
+                .andRespond(withSuccess());
+
+        channel.publish(1L, CrdtEventType.NODE, 1L, Map.of("id", 1));
+        channel.publish(1L, CrdtEventType.CANDIDATE, 1L, Map.of("candidates", List.of()));
+        channel.flushAll();
+
+        // 실패한 이벤트는 저장되고 보류 상태의 지연이 기록됨
+        assertThat(pendingEvents).hasSize(2);
+        channel.flushAll();
+        assertThat(meterRegistry.get("crdt.delivery.lag").tag("workspace", "1").gauge().value()).isNotNegative();
+
+        channel.publish(1L, CrdtEventType.TECH, 1L, Map.of("techs", List.of()));
+        channel.flushAll();
+
+        crdtServer.verify();
+        List<String> failedIds = eventIds(bodies.get(0));
+        assertThat(eventIds(bodies.get(1))).hasSize(2).isEqualTo(failedIds);
+        assertThat(new ObjectMapper().readTree(bodies.get(2)).get("events").get(0).get("type").asText()).isEqualTo("TECH");
+
+        assertThat(pendingEvents).isEmpty();
+        assertThat(meterRegistry.get("crdt.delivery.redelivered").counter().count()).isEqualTo(2);
+        channel.flushAll();
+        assertThat(meterRegistry.find("crdt.delivery.lag").tag("workspace", "1").gauge()).isNull();
+    }
+
+    @Test
+    @DisplayName("CRDT 서버가 413으로 거부한 배치는 나눠서 다시 보내고, 끝까지 거부된 이벤트만 격리한다.")
+    void splitRejectedBatchAndQuarantinePoison() throws Exception {
+        List<String> bodies = new ArrayList<>();
+        HttpStatus[] responses = {HttpStatus.PAYLOAD_TOO_LARGE, HttpStatus.OK, HttpStatus.PAYLOAD_TOO_LARGE,
+                HttpStatus.OK, HttpStatus.PAYLOAD_TOO_LARGE, HttpStatus.OK};
+        for (HttpStatus status : responses) {
+            crdtServer.expect(once(), requestTo("http://crdt/workspaces/1/nodes/batch"))
+                    .andExpect(request -> bodies.add(((MockClientHttpRequest) request).getBodyAsString()))
+                    .andRespond(withStatus(status));
+        }
+
+        for (long nodeId = 1; nodeId <= 3; nodeId++) {
+            channel.publish(1L, CrdtEventType.TECH, nodeId, Map.of("techs", List.of()));
+        }
+        // 격리된 이벤트가 뒤의 이벤트를 막지 않음
+        channel.publish(1L, CrdtEventType.NODE, 4L, Map.of("id", 4));
+        channel.flushAll();
+
+        crdtServer.verify();
+        assertThat(bodies.stream().map(this::nodeIds).toList())
+                .containsExactly(List.of(1L, 2L, 3L), List.of(1L), List.of(2L, 3L), List.of(2L), List.of(3L), List.of(4L));
+        assertThat(pendingEvents).singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getNodeId()).isEqualTo(3L);
+                    assertThat(row.getDeadAt()).isNotNull();
+                });
+        assertThat(meterRegistry.get("crdt.delivery.dead").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-attempts번 재전송해도 전달되지 않은 이벤트는 격리되고, 그 뒤의 이벤트는 계속 전송된다.")
+    void quarantineAfterMaxAttempts() {
+        channel = newChannel(new HttpCrdtEventTransport(restClient, "http://crdt", "/workspaces/{workspaceId}/nodes", "/batch"), 2);
+        crdtServer.expect(once(), requestTo("http://crdt/workspaces/1/nodes/batch")).andRespond(withServerError());
+        crdtServer.expect(once(), requestTo("http://crdt/workspaces/1/nodes/batch")).andRespond(withServerError());
+        crdtServer.expect(once(), requestTo("http://crdt/workspaces/1/nodes/batch"))
+                .andExpect(jsonPath("$.events[0].nodeId").value(2))
+                .andRespond(withSuccess());
+
+        channel.publish(1L, CrdtEventType.NODE, 1L, Map.of("id", 1));
+        channel.flushAll();
+        channel.publish(1L, CrdtEventType.NODE, 2L, Map.of("id", 2));
+        channel.flushAll();
+
+        crdtServer.verify();
+        assertThat(pendingEvents).singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getNodeId()).isEqualTo(1L);
+                    assertThat(row.getDeadAt()).isNotNull();
+                });
+        assertThat(meterRegistry.get("crdt.delivery.dead").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CRDT 서버가 반영하지 못했다고 응답한 이벤트는 한 번 더 보내고, 그래도 실패하면 격리한다.")
+    void resendEventsFailedToApply() {
+        crdtServer.expect(once(), requestTo("http://crdt/workspaces/1/nodes/batch"))
+                .andExpect(jsonPath("$.events.length()").value(2))
+                .andRespond(withSuccess("{\"status\":\"ok\",\"failed\":[1]}", MediaType.APPLICATION_JSON));
+        crdtServer.expect(once(), requestTo("http://crdt/workspaces/1/nodes/batch"))
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.events[0].type").value("TECH_RESET"))
+                .andRespond(withSuccess("{\"status\":\"ok\",\"failed\":[0]}", MediaType.APPLICATION_JSON));
+
+        channel.publish(1L, CrdtEventType.TECH, 1L, Map.of("techs", List.of()));
+        channel.publish(1L, CrdtEventType.TECH_RESET, 2L, Map.of());
+        channel.flushAll();
+
+        crdtServer.verify();
+        assertThat(pendingEvents).singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getType()).isEqualTo(CrdtEventType.TECH_RESET);
+                    assertThat(row.getDeadAt()).isNotNull();
+                });
+        assertThat(meterRegistry.get("crdt.delivery.apply.failed").counter().count()).isEqualTo(2);
+    }
+
+    private CrdtEventChannel newChannel(CrdtEventTransport transport, int maxAttempts) {
+        return new CrdtEventChannel(transport, pendingEventRepository(), new ObjectMapper(), Runnable::run,
+                meterRegistry, 3, maxAttempts, Duration.ZERO, Duration.ofMinutes(1));
+    }
+
+    private List<Long> nodeIds(String body) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            new ObjectMapper().readTree(body).get("events").forEach(event -> ids.add(event.get("nodeId").asLong()));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return ids;
+    }
+
+    private List<String> eventIds(String body) throws Exception {
+        List<String> ids = new ArrayList<>();
+        new ObjectMapper().readTree(body).get("events").forEach(event -> ids.add(event.get("id").asText()));
+        return ids;
+    }
+
+    // 저장/조회/삭제만 메모리에서 흉내 내는 저장소
+    private CrdtPendingEventRepository pendingEventRepository() {
+        CrdtPendingEventRepository repository = mock(CrdtPendingEventRepository.class);
+        AtomicLong sequence = new AtomicLong();
+        given(repository.saveAll(anyIterable())).willAnswer(invocation -> {
+            Iterable<CrdtPendingEvent> rows = invocation.getArgument(0);
+            rows.forEach(row -> {
+                ReflectionTestUtils.setField(row, "id", sequence.incrementAndGet());
+                pendingEvents.add(row);
+            });
+            return rows;
+        });
+        given(repository.findByWorkspaceIdAndDeadAtIsNullOrderByIdAsc(anyLong(), any(Limit.class))).willAnswer(invocation -> {
+            Long workspaceId = invocation.getArgument(0);
+            Limit limit = invocation.getArgument(1);
+            return pendingEvents.stream()
+                    .filter(row -> row.getWorkspaceId().equals(workspaceId) && row.getDeadAt() == null)
+                    .limit(limit.max())
+                    .toList();
+        });
+        willAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            ids.forEach(id -> pendingEvents.removeIf(row -> row.getId().equals(id)));
+            return null;
+        }).given(repository).deleteAllByIdInBatch(anyIterable());
+        willAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            pendingEvents.stream()
+                    .filter(row -> ids.contains(row.getId()))
+                    .forEach(row -> ReflectionTestUtils.setField(row, "deadAt", invocation.getArgument(1)));
+            return null;
+        }).given(repository).markDead(anyList(), any(), any());
+        return repository;
+    }
+}
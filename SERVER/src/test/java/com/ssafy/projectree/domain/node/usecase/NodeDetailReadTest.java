@@ -0,0 +1,147 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import com.ssafy.projectree.domain.member.model.entity.Member;
+import com.ssafy.projectree.domain.node.api.dto.NodeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.schema.CandidateSchema;
+import com.ssafy.projectree.domain.node.enums.NodeStatus;
+import com.ssafy.projectree.domain.node.enums.TaskType;
+import com.ssafy.projectree.domain.node.model.entity.AdvanceNode;
+import com.ssafy.projectree.domain.node.model.entity.Candidate;
+import com.ssafy.projectree.domain.node.model.entity.ProjectNode;
+import com.ssafy.projectree.domain.node.model.entity.TaskNode;
+import com.ssafy.projectree.domain.node.model.repository.NodeRepository;
+import com.ssafy.projectree.domain.tech.api.dto.schemas.TechStackSchema;
+import com.ssafy.projectree.domain.tech.model.entity.NodeTechStack;
+import com.ssafy.projectree.domain.tech.model.entity.TechStackInfo;
+import com.ssafy.projectree.domain.tech.model.entity.TechVocabulary;
+import com.ssafy.projectree.domain.workspace.enums.ServiceType;
+import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
+import com.ssafy.projectree.domain.workspace.model.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class NodeDetailReadTest {
+
+    private static final int CANDIDATE_COUNT = 10;
+    private static final int TECH_COUNT = 10;
+
+    @Autowired
+    private NodeService nodeService;
+
+    @Autowired
+    private NodeRepository nodeRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("후보 10개, 기술 스택 10개인 노드의 상세 조회는 쿼리 2회로 끝나야 한다.")
+    void getNodeDetailsWithTwoStatements() {
+        // given
+        Workspace workspace = Workspace.builder()
+                .name("Detail Test")
+                .serviceType(ServiceType.WEB)
+                .identifierPrefix("DTL")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        workspaceRepository.save(workspace);
+
+        ProjectNode root = ProjectNode.builder()
+                .workspace(workspace)
+                .name("Detail Test Project")
+                .status(NodeStatus.TODO)
+                .build();
+        nodeRepository.saveRoot(root);
+
+        Member assignee = Member.builder()
+                .name("담당자")
+                .nickname("detail-assignee")
+                .email("detail-assignee@projectree.test")
+                .build();
+        em.persist(assignee);
+
+        TaskNode task = new TaskNode();
+        task.setName("Detail Task");
+        task.setStatus(NodeStatus.TODO);
+        task.setType(TaskType.BE);
+        task.setDifficult(3);
+        task.setMember(assignee);
+        task.setComparison("## 비교");
+        nodeRepository.saveWithParent(root.getId(), task);
+
+        // 후보마다 서로 다른 파생 노드를 연결 (기존에는 후보 수만큼 추가 조회가 발생)
+        for (int i = 0; i < CANDIDATE_COUNT; i++) {
+            AdvanceNode derivation = new AdvanceNode();
+            derivation.setName("Derivation " + i);
+            derivation.setStatus(NodeStatus.TODO);
+            derivation.setDifficult(2);
+            nodeRepository.saveWithParent(task.getId(), derivation);
+
+            em.persist(Candidate.builder()
+                    .parent(task)
+                    .derivationNode(derivation)
+                    .isSelected(true)
+                    .name("Candidate " + i)
+                    .build());
+        }
+
+        for (int i = 0; i < TECH_COUNT; i++) {
+            TechVocabulary vocabulary = new TechVocabulary();
+            vocabulary.setName("detail-tech-" + i);
+            em.persist(vocabulary);
+
+            TechStackInfo info = new TechStackInfo();
+            info.setDescription("Tech " + i);
+            info.setRecommendation(i);
+            em.persist(info);
+
+            NodeTechStack techStack = new NodeTechStack();
+            techStack.setNode(task);
+            techStack.setTechVocabulary(vocabulary);
+            techStack.setTechStackInfo(info);
+            em.persist(techStack);
+        }
+
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        NodeReadDto.Response response = nodeService.getNodeDetails(task.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+
+        assertThat(response.getAssignee().getNickname()).isEqualTo("detail-assignee");
+        assertThat(response.getComparison()).isEqualTo("## 비교");
+        assertThat(response.getCandidates()).hasSize(CANDIDATE_COUNT)
+                .allSatisfy(candidate -> assertThat(candidate.getDerivationId()).isNotNull())
+                .extracting(CandidateSchema::getName)
+                .doesNotHaveDuplicates();
+        assertThat(response.getTechs()).hasSize(TECH_COUNT)
+                .extracting(TechStackSchema::getName)
+                .doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,105 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.projectree.domain.node.api.dto.NodePositionUpdateDto;
+import com.ssafy.projectree.domain.node.api.dto.NodeTreeReadDto;
+import com.ssafy.projectree.domain.node.api.dto.schema.NodeSchema;
+import com.ssafy.projectree.domain.node.api.dto.schema.PositionSchema;
+import com.ssafy.projectree.domain.node.cache.NodeTreeCache;
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.exception.BusinessLogicException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+class NodePositionBufferTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NodeCrdtService nodeCrdtService = mock(NodeCrdtService.class);
+    private final NodeTreeCache nodeTreeCache = new NodeTreeCache(10, Duration.ofMinutes(1), 1_000);
+
+    @Test
+    @DisplayName("DB 저장이 계속 실패해도 버퍼는 max-pending을 넘지 않고, 새 노드의 좌표는 거절된다.")
+    void capPendingWhileDbIsDown() {
+        willThrow(new IllegalStateException("db down")).given(nodeCrdtService).savePositions(anyList());
+        NodePositionBuffer buffer = newBuffer(2);
+
+        buffer.offer(List.of(item(1L, 1), item(2L, 2)));
+        // 이미 있는 노드는 덮어쓰기이므로 가득 차도 받음
+        buffer.offer(List.of(item(1L, 10)));
+
+        assertThatThrownBy(() -> buffer.offer(List.of(item(3L, 3))))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.NODE_POSITION_BUFFER_FULL_ERROR);
+
+        buffer.flush();
+        assertThat(meterRegistry.get("node.position.buffer.pending").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("node.position.buffer.rejected").counter().count()).isEqualTo(1);
+        assertThat(buffer.overlay(schema(1L, 0)).getPosition().getXPos()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("저장 중인 좌표도 커밋이 끝날 때까지 조회 결과에 덮어쓰인다.")
+    void overlayWhileWriting() {
+        NodePositionBuffer buffer = newBuffer(100);
+        List<Double> seenDuringWrite = new ArrayList<>();
+        willAnswer(invocation -> {
+            seenDuringWrite.add(buffer.overlay(schema(1L, 0)).getPosition().getXPos());
+            return null;
+        }).given(nodeCrdtService).savePositions(anyList());
+
+        buffer.offer(List.of(item(1L, 5)));
+        buffer.flush();
+
+        assertThat(seenDuringWrite).containsExactly(5.0);
+        // 저장이 끝나면 DB 값을 그대로 사용
+        assertThat(buffer.overlay(schema(1L, 0)).getPosition().getXPos()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시된 트리는 제자리에서 바뀌지 않고, 좌표가 바뀐 워크스페이스의 스냅샷만 교체된다.")
+    void replaceSnapshotOfAffectedWorkspaceOnly() {
+        NodeTreeReadDto.Response first = nodeTreeCache.get(1L, 0, id -> tree(schema(1L, 0), schema(2L, 0))).tree();
+        NodeTreeReadDto.Response second = nodeTreeCache.get(2L, 0, id -> tree(schema(3L, 0))).tree();
+        NodePositionBuffer buffer = newBuffer(100);
+
+        buffer.offer(List.of(item(2L, 7)));
+
+        NodeTreeReadDto.Response patched = nodeTreeCache.get(1L, 0, id -> tree()).tree();
+        assertThat(patched).isNotSameAs(first);
+        assertThat(patched.getTree().get(1).getPosition().getXPos()).isEqualTo(7);
+        assertThat(first.getTree().get(1).getPosition().getXPos()).isZero();
+        assertThat(nodeTreeCache.get(2L, 0, id -> tree()).tree()).isSameAs(second);
+    }
+
+    private NodePositionBuffer newBuffer(int maxPending) {
+        return new NodePositionBuffer(nodeCrdtService, nodeTreeCache, Runnable::run, meterRegistry,
+                1_000, maxPending, Duration.ofMillis(100));
+    }
+
+    private NodePositionUpdateDto.NodePositionItem item(Long nodeId, double x) {
+        return objectMapper.convertValue(Map.of("nodeId", nodeId, "position", Map.of("x", x, "y", 0.0)),
+                NodePositionUpdateDto.NodePositionItem.class);
+    }
+
+    private static NodeSchema schema(Long id, double x) {
+        return NodeSchema.builder().id(id).position(new PositionSchema(x, 0.0)).build();
+    }
+
+    private static NodeTreeReadDto.Response tree(NodeSchema... nodes) {
+        return NodeTreeReadDto.Response.builder().tree(List.of(nodes)).build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import com.ssafy.projectree.domain.node.enums.NodeStatus;
+import com.ssafy.projectree.domain.node.model.entity.Candidate;
+import com.ssafy.projectree.domain.node.model.entity.EpicNode;
+import com.ssafy.projectree.domain.node.model.entity.Node;
+import com.ssafy.projectree.domain.node.model.entity.ProjectNode;
+import com.ssafy.projectree.domain.node.model.entity.StoryNode;
+import com.ssafy.projectree.domain.node.model.repository.CandidateRepository;
+import com.ssafy.projectree.domain.node.model.repository.NodeRepository;
+import com.ssafy.projectree.domain.node.model.repository.custom.SubtreeNode;
+import com.ssafy.projectree.domain.tech.model.entity.NodeTechStack;
+import com.ssafy.projectree.domain.workspace.enums.ServiceType;
+import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
+import com.ssafy.projectree.domain.workspace.model.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class NodeSubtreeDeleteTest {
+
+    private static final int SUBTREE_SIZE = 1_000;
+
+    @Autowired
+    private NodeService nodeService;
+
+    @Autowired
+    private NodeRepository nodeRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("1,000개 노드 서브트리 삭제 시 후보/기술스택/파생 연결이 모두 정리되고 쿼리 수는 노드 수와 무관해야 한다.")
+    void deleteSubtreeWithFixedStatementCount() {
+        // given
+        Workspace workspace = Workspace.builder()
+                .name("Delete Test")
+                .serviceType(ServiceType.WEB)
+                .identifierPrefix("DEL")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        workspaceRepository.save(workspace);
+
+        ProjectNode root = ProjectNode.builder()
+                .workspace(workspace)
+                .name("Delete Test Project")
+                .status(NodeStatus.TODO)
+                .build();
+        nodeRepository.saveRoot(root);
+
+        EpicNode epic = new EpicNode();
+        epic.setName("Deleted Epic");
+        epic.setStatus(NodeStatus.TODO);
+        nodeRepository.saveWithParent(root.getId(), epic);
+
+        // 에픽 아래에 스토리 1,000개
+        List<SubtreeNode> stories = new ArrayList<>();
+        for (int i = 0; i < SUBTREE_SIZE; i++) {
+            StoryNode story = new StoryNode();
+            story.setName("Story " + i);
+            story.setStatus(NodeStatus.TODO);
+            stories.add(new SubtreeNode(story, 1));
+        }
+        nodeRepository.saveSubtree(epic.getId(), stories);
+
+        Node firstStory = em.getReference(Node.class, stories.get(0).node().getId());
+        List<Long> candidateIds = new ArrayList<>();
+        for (SubtreeNode item : stories) {
+            Node story = em.getReference(Node.class, item.node().getId());
+            Candidate candidate = Candidate.builder().parent(story).name("Candidate").build();
+            em.persist(candidate);
+            candidateIds.add(candidate.getId());
+
+            NodeTechStack techStack = new NodeTechStack();
+            techStack.setNode(story);
+            em.persist(techStack);
+        }
+
+        // 서브트리 밖(프로젝트 노드)의 후보가 서브트리 안의 노드로 파생된 상태
+        Candidate outsideCandidate = Candidate.builder()
+                .parent(root)
+                .derivationNode(firstStory)
+                .isSelected(true)
+                .name("Outside Candidate")
+                .build();
+        em.persist(outsideCandidate);
+
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        nodeService.deleteNode(epic.getId());
+        em.flush();
+
+        // then
+        // 노드 조회, 하위 ID 조회(캐시 무효화), UPDATE 4회 (+ 루트 캐시 미스 시 1회)
+        // + 변경 이력 기록 3회 (워크스페이스 버전 증가/조회, 서브트리 DELETED 이력 INSERT) + 진행도 집계 잠금/차감 2회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+
+        em.clear();
+        assertThat(candidateRepository.findAllById(candidateIds)).isEmpty();
+        assertThat(countLive("node_tech_stack", "node_id IN (SELECT descendant_id FROM node_tree WHERE ancestor_id = :id)",
+                epic.getId())).isZero();
+        assertThat(countLive("node", "id IN (SELECT descendant_id FROM node_tree WHERE ancestor_id = :id)",
+                epic.getId())).isZero();
+
+        Candidate disconnected = candidateRepository.findById(outsideCandidate.getId()).orElseThrow();
+        assertThat(disconnected.getDerivationNode()).isNull();
+        assertThat(disconnected.isSelected()).isFalse();
+    }
+
+    private long countLive(String table, String condition, Long nodeId) {
+        Number count = (Number) em.createNativeQuery(
+                        "SELECT COUNT(*) FROM " + table + " WHERE deleted_at IS NULL AND " + condition)
+                .setParameter("id", nodeId)
+                .getSingleResult();
+        return count.longValue();
+    }
+}
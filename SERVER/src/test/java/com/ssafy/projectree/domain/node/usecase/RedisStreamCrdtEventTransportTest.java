@@ -0,0 +1,266 @@
+package com.ssafy.projectree.domain.node.usecase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.ssafy.projectree.domain.node.enums.CrdtEventType;
+import com.ssafy.projectree.domain.node.model.repository.CrdtPendingEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RedisStreamCrdtEventTransportTest {
+
+    private final CBORMapper cborMapper = new CBORMapper();
+    private FakeRedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        redisServer = new FakeRedisServer();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisServer.port()));
+        connectionFactory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.flushOnClose());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redisServer.close();
+    }
+
+    @Test
+    @DisplayName("이벤트는 워크스페이스별 스트림에 발생 순서대로 CBOR로 추가되고, 컨슈머 그룹은 처음부터 읽도록 만들어진다.")
+    void appendEventsToWorkspaceStream() throws IOException {
+        RedisStreamCrdtEventTransport transport = new RedisStreamCrdtEventTransport(redisTemplate, "crdt", 1000);
+
+        transport.send(1L, List.of(
+                event(CrdtEventType.NODE, 10L, Map.of("id", 10, "name", "Story")),
+                event(CrdtEventType.TECH, 10L, Map.of("comparison", "비교")),
+                event(CrdtEventType.CANDIDATE, 11L, Map.of("candidates", List.of()))));
+        transport.send(2L, List.of(event(CrdtEventType.NODE, 20L, Map.of("id", 20))));
+
+        String key = RedisStreamCrdtEventTransport.streamKey(1L);
+        List<byte[]> entries = redisServer.entries(key);
+        assertThat(entries).hasSize(3);
+        assertThat(decode(entries.get(0)).get("type").asText()).isEqualTo("NODE");
+        assertThat(decode(entries.get(0)).get("payload").get("name").asText()).isEqualTo("Story");
+        assertThat(decode(entries.get(1)).get("payload").get("comparison").asText()).isEqualTo("비교");
+        assertThat(decode(entries.get(2)).get("nodeId").asLong()).isEqualTo(11L);
+        assertThat(redisServer.entries(RedisStreamCrdtEventTransport.streamKey(2L))).hasSize(1);
+
+        assertThat(redisServer.groups(key)).containsExactly("crdt:0");
+    }
+
+    @Test
+    @DisplayName("다른 서버가 이미 컨슈머 그룹을 만든 스트림에도 이벤트를 추가한다.")
+    void reuseExistingConsumerGroup() {
+        new RedisStreamCrdtEventTransport(redisTemplate, "crdt", 1000)
+                .send(1L, List.of(event(CrdtEventType.NODE, 1L, Map.of())));
+        new RedisStreamCrdtEventTransport(redisTemplate, "crdt", 1000)
+                .send(1L, List.of(event(CrdtEventType.NODE, 2L, Map.of())));
+
+        assertThat(redisServer.entries(RedisStreamCrdtEventTransport.streamKey(1L))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("채널에서 Redis 전송을 사용하면 배치 메트릭에 전송 방식이 함께 기록된다.")
+    void publishThroughChannel() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CrdtEventChannel channel = new CrdtEventChannel(
+                new RedisStreamCrdtEventTransport(redisTemplate, "crdt", 1000), mock(CrdtPendingEventRepository.class),
+                new ObjectMapper(), Runnable::run, meterRegistry, 100, 30, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+        for (long nodeId = 1; nodeId <= 5; nodeId++) {
+            channel.publish(3L, CrdtEventType.NODE, nodeId, Map.of("id", nodeId));
+        }
+        channel.flushAll();
+
+        assertThat(redisServer.entries(RedisStreamCrdtEventTransport.streamKey(3L))).hasSize(5);
+        assertThat(meterRegistry.get("crdt.push.latency").tag("transport", "redis-stream").tag("result", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private CrdtEventChannel.CrdtEvent event(CrdtEventType type, Long nodeId, Object payload) {
+        return new CrdtEventChannel.CrdtEvent(UUID.randomUUID().toString(), type, nodeId, payload);
+    }
+
+    private JsonNode decode(byte[] payload) throws IOException {
+        return cborMapper.readTree(payload);
+    }
+
+    /**
+     * 테스트용 최소 Redis 서버: 스트림 추가(XADD)와 컨슈머 그룹 생성(XGROUP CREATE)만 메모리에서 처리한다.
+     */
+    private static class FakeRedisServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket = new ServerSocket(0);
+        private final Map<String, List<byte[]>> streams = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> groups = new ConcurrentHashMap<>();
+        private final AtomicLong sequence = new AtomicLong();
+
+        FakeRedisServer() throws IOException {
+            Thread.ofVirtual().start(this::accept);
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        List<byte[]> entries(String key) {
+            return streams.getOrDefault(key, List.of());
+        }
+
+        Set<String> groups(String key) {
+            return groups.getOrDefault(key, Set.of());
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread.ofVirtual().start(() -> serve(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket; InputStream in = new BufferedInputStream(socket.getInputStream());
+                 OutputStream out = socket.getOutputStream()) {
+                List<byte[]> command;
+                while ((command = readCommand(in)) != null) {
+                    out.write(execute(command));
+                    out.flush();
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 연결을 끊은 경우
+            }
+        }
+
+        private byte[] execute(List<byte[]> command) {
+            String name = text(command.get(0)).toUpperCase();
+            return switch (name) {
+                case "PING" -> simple("+PONG");
+                case "CLIENT", "SELECT" -> simple("+OK");
+                case "XGROUP" -> groupCreate(command);
+                case "XADD" -> add(command);
+                // HELLO 등은 지원하지 않음 (Lettuce는 RESP2로 전환)
+                default -> simple("-ERR unknown command '" + name + "'");
+            };
+        }
+
+        // XGROUP CREATE key group id [MKSTREAM]
+        private byte[] groupCreate(List<byte[]> command) {
+            String key = text(command.get(2));
+            String group = text(command.get(3)) + ":" + text(command.get(4));
+            if (!streams.containsKey(key) && command.size() > 5) {
+                streams.put(key, new CopyOnWriteArrayList<>());
+            }
+            if (!groups.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(group)) {
+                return simple("-BUSYGROUP Consumer Group name already exists");
+            }
+            return simple("+OK");
+        }
+
+        // XADD key [MAXLEN [~|=] n] id field value [field value ...], 값은 첫 필드만 보관
+        private byte[] add(List<byte[]> command) {
+            String key = text(command.get(1));
+            int index = 2;
+            if ("MAXLEN".equalsIgnoreCase(text(command.get(index)))) {
+                index += text(command.get(index + 1)).matches("[~=]") ? 3 : 2;
+            }
+            index++; // id (*)
+            byte[] value = command.get(index + 1);
+            streams.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(value);
+
+            byte[] id = (System.currentTimeMillis() + "-" + sequence.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+            return concat(("$" + id.length + "\r\n").getBytes(StandardCharsets.UTF_8), id, "\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        // RESP 배열(*N) 형식의 명령 하나를 읽음
+        private List<byte[]> readCommand(InputStream in) throws IOException {
+            String header = readLine(in);
+            if (header == null) {
+                return null;
+            }
+            int count = Integer.parseInt(header.substring(1));
+            List<byte[]> args = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = Integer.parseInt(readLine(in).substring(1));
+                args.add(in.readNBytes(length));
+                in.readNBytes(2);
+            }
+            return args;
+        }
+
+        private String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\r') {
+                    in.read();
+                    return line.toString(StandardCharsets.UTF_8);
+                }
+                line.write(b);
+            }
+            return null;
+        }
+
+        private static String text(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static byte[] simple(String line) {
+            return (line + "\r\n").getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static byte[] concat(byte[]... parts) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (byte[] part : parts) {
+                out.writeBytes(part);
+            }
+            return out.toByteArray();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
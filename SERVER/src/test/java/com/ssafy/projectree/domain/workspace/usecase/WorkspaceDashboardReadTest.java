@@ -0,0 +1,100 @@
+package com.ssafy.projectree.domain.workspace.usecase;
+
+import com.ssafy.projectree.domain.member.model.entity.Member;
+import com.ssafy.projectree.domain.workspace.api.dto.WorkspaceDto;
+import com.ssafy.projectree.domain.workspace.enums.Role;
+import com.ssafy.projectree.domain.workspace.enums.ServiceType;
+import com.ssafy.projectree.domain.workspace.model.entity.Team;
+import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
+import com.ssafy.projectree.domain.workspace.model.repository.WorkspaceProgressRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class WorkspaceDashboardReadTest {
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private WorkspaceProgressRepository workspaceProgressRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ParameterizedTest(name = "워크스페이스 {0}개")
+    @ValueSource(ints = {1, 25})
+    @DisplayName("내 워크스페이스 목록은 워크스페이스 수와 관계없이 쿼리 1회로 조회되어야 한다.")
+    void readMyWorkspacesWithSingleStatement(int workspaceCount) {
+        // given: 워크스페이스마다 나 + 팀원 1명, 첫 워크스페이스만 진행도 존재
+        Member me = member("me");
+        Member teammate = member("teammate");
+
+        for (int i = 0; i < workspaceCount; i++) {
+            Workspace workspace = Workspace.builder()
+                    .name("Dashboard " + i)
+                    .description("Dashboard Test " + i)
+                    .serviceType(ServiceType.WEB)
+                    .identifierPrefix("DSB")
+                    .startDate(LocalDate.now())
+                    .endDate(LocalDate.now().plusDays(30))
+                    .build();
+            em.persist(workspace);
+            em.persist(new Team(me, workspace, null, i == 0 ? Role.OWNER : Role.EDITOR));
+            em.persist(new Team(teammate, workspace, null, Role.VIEWER));
+
+            if (i == 0) {
+                workspaceProgressRepository.add(workspace.getId(), "P0", 4, 1);
+                workspaceProgressRepository.add(workspace.getId(), "P2", 2, 2);
+            }
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<WorkspaceDto.Response> workspaces = workspaceService.read(me);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(workspaces).hasSize(workspaceCount)
+                .allSatisfy(workspace -> assertThat(workspace.getTotalMembers()).isEqualTo(2));
+
+        WorkspaceDto.Response first = workspaces.get(0);
+        assertThat(first.getName()).isEqualTo("Dashboard 0");
+        assertThat(first.getRole()).isEqualTo(Role.OWNER);
+        assertThat(first.getProgress().getP0().getTotal()).isEqualTo(4);
+        assertThat(first.getProgress().getP0().getCompleted()).isEqualTo(1);
+        assertThat(first.getProgress().getP1().getTotal()).isZero();
+        assertThat(first.getProgress().getP2().getCompleted()).isEqualTo(2);
+    }
+
+    private Member member(String nickname) {
+        Member member = Member.builder()
+                .name(nickname)
+                .nickname(nickname)
+                .email(nickname + "@dashboard.projectree.test")
+                .build();
+        em.persist(member);
+        return member;
+    }
+}
@@ -0,0 +1,162 @@
+package com.ssafy.projectree.domain.workspace.usecase;
+
+import com.ssafy.projectree.domain.node.api.dto.NodeUpdateDto;
+import com.ssafy.projectree.domain.node.enums.NodeStatus;
+import com.ssafy.projectree.domain.node.enums.Priority;
+import com.ssafy.projectree.domain.node.model.entity.EpicNode;
+import com.ssafy.projectree.domain.node.model.entity.ProjectNode;
+import com.ssafy.projectree.domain.node.model.entity.StoryNode;
+import com.ssafy.projectree.domain.node.model.repository.NodeRepository;
+import com.ssafy.projectree.domain.node.model.repository.custom.SubtreeNode;
+import com.ssafy.projectree.domain.node.usecase.NodeService;
+import com.ssafy.projectree.domain.workspace.api.dto.WorkspaceDto;
+import com.ssafy.projectree.domain.workspace.enums.ServiceType;
+import com.ssafy.projectree.domain.workspace.model.entity.Workspace;
+import com.ssafy.projectree.domain.workspace.model.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class WorkspaceProgressServiceTest {
+
+    @Autowired
+    private WorkspaceProgressService workspaceProgressService;
+
+    @Autowired
+    private NodeService nodeService;
+
+    @Autowired
+    private NodeRepository nodeRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("노드 생성/변경/삭제로 증감된 집계는 GROUP BY 재집계 결과와 같아야 한다.")
+    void incrementalCountersMatchRecount() {
+        // given: P0 스토리 3개(1개 완료), P1 스토리 2개를 가진 에픽
+        Workspace workspace = Workspace.builder()
+                .name("Progress Test")
+                .serviceType(ServiceType.WEB)
+                .identifierPrefix("PRG")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        workspaceRepository.save(workspace);
+
+        ProjectNode root = ProjectNode.builder()
+                .workspace(workspace)
+                .name("Progress Test Project")
+                .status(NodeStatus.TODO)
+                .build();
+        nodeRepository.saveRoot(root);
+
+        EpicNode epic = new EpicNode();
+        epic.setName("Epic");
+        epic.setStatus(NodeStatus.TODO);
+        List<SubtreeNode> nodes = new ArrayList<>(List.of(new SubtreeNode(epic, 1)));
+        nodes.add(new SubtreeNode(story(Priority.P0, NodeStatus.DONE), 2));
+        nodes.add(new SubtreeNode(story(Priority.P0, NodeStatus.TODO), 2));
+        nodes.add(new SubtreeNode(story(Priority.P0, NodeStatus.TODO), 2));
+        nodes.add(new SubtreeNode(story(Priority.P1, NodeStatus.TODO), 2));
+        nodes.add(new SubtreeNode(story(Priority.P1, NodeStatus.IN_PROGRESS), 2));
+        nodeRepository.saveSubtree(root.getId(), nodes);
+        workspaceProgressService.nodesCreated(workspace.getId(), nodes.stream().map(item -> item.node().getId()).toList());
+
+        assertProgress(workspaceProgressService.getProgress(workspace.getId()), 3, 1, 2, 0, 0, 0);
+
+        // when: P1 -> P2로 바꾸면서 완료, P0 하나 완료
+        NodeUpdateDto.Request toP2Done = new NodeUpdateDto.Request();
+        toP2Done.setPriority(Priority.P2);
+        toP2Done.setStatus(NodeStatus.DONE);
+        nodeService.updateNodeDetail(nodes.get(5).node().getId(), toP2Done);
+
+        NodeUpdateDto.Request done = new NodeUpdateDto.Request();
+        done.setStatus(NodeStatus.DONE);
+        nodeService.updateNodeDetail(nodes.get(2).node().getId(), done);
+        em.flush();
+
+        WorkspaceDto.ProgressInfo updated = workspaceProgressService.getProgress(workspace.getId());
+        assertProgress(updated, 3, 2, 1, 0, 1, 1);
+
+        // 에픽 삭제로 하위 스토리 전체 차감
+        nodeService.deleteNode(epic.getId());
+        em.flush();
+        assertProgress(workspaceProgressService.getProgress(workspace.getId()), 0, 0, 0, 0, 0, 0);
+
+        // then: 재집계해도 값이 바뀌지 않는다.
+        workspaceProgressService.reconcile();
+        em.clear();
+        assertProgress(workspaceProgressService.getProgress(workspace.getId()), 0, 0, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("집계 행이 없는 기존 워크스페이스도 기동 시 재집계로 채워진다.")
+    void backfillOnStartup() {
+        Workspace workspace = Workspace.builder()
+                .name("Backfill Test")
+                .serviceType(ServiceType.WEB)
+                .identifierPrefix("BFL")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        workspaceRepository.save(workspace);
+
+        ProjectNode root = ProjectNode.builder()
+                .workspace(workspace)
+                .name("Backfill Test Project")
+                .status(NodeStatus.TODO)
+                .build();
+        nodeRepository.saveRoot(root);
+
+        // 집계 없이 저장된 (집계 테이블 도입 전) 노드
+        EpicNode epic = new EpicNode();
+        epic.setName("Epic");
+        epic.setStatus(NodeStatus.TODO);
+        nodeRepository.saveSubtree(root.getId(), List.of(
+                new SubtreeNode(epic, 1),
+                new SubtreeNode(story(Priority.P0, NodeStatus.DONE), 2),
+                new SubtreeNode(story(Priority.P2, NodeStatus.TODO), 2)));
+        em.flush();
+        assertProgress(workspaceProgressService.getProgress(workspace.getId()), 0, 0, 0, 0, 0, 0);
+
+        workspaceProgressService.reconcileOnStartup();
+        em.clear();
+
+        assertProgress(workspaceProgressService.getProgress(workspace.getId()), 1, 1, 0, 0, 1, 0);
+    }
+
+    private StoryNode story(Priority priority, NodeStatus status) {
+        StoryNode story = new StoryNode();
+        story.setName("Story " + priority);
+        story.setPriority(priority);
+        story.setStatus(status);
+        return story;
+    }
+
+    private void assertProgress(WorkspaceDto.ProgressInfo progress,
+                                long p0Total, long p0Completed,
+                                long p1Total, long p1Completed,
+                                long p2Total, long p2Completed) {
+        assertThat(progress.getP0().getTotal()).isEqualTo(p0Total);
+        assertThat(progress.getP0().getCompleted()).isEqualTo(p0Completed);
+        assertThat(progress.getP1().getTotal()).isEqualTo(p1Total);
+        assertThat(progress.getP1().getCompleted()).isEqualTo(p1Completed);
+        assertThat(progress.getP2().getTotal()).isEqualTo(p2Total);
+        assertThat(progress.getP2().getCompleted()).isEqualTo(p2Completed);
+    }
+}
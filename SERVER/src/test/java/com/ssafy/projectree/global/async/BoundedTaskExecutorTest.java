@@ -0,0 +1,102 @@
+package com.ssafy.projectree.global.async;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTaskExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("COALESCE 정책에서 같은 키의 작업이 대기 중이면 새 작업은 합쳐진다.")
+    void coalesceSameKey() throws InterruptedException {
+        executor = newExecutor(OverloadPolicy.COALESCE, 10);
+        CountDownLatch blocker = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        // 스레드 하나를 막아 두고 같은 키로 여러 번 예약
+        executor.execute(() -> await(blocker));
+        for (int i = 0; i < 5; i++) {
+            executor.execute(CoalescingTask.of("flush", runs::incrementAndGet));
+        }
+        blocker.countDown();
+        executor.getThreadPoolExecutor().shutdown();
+        executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.overload.coalesced").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS 정책에서 큐가 가득 차면 호출한 스레드에서 실행되고 거절 수가 기록된다.")
+    void callerRunsWhenFull() {
+        executor = newExecutor(OverloadPolicy.CALLER_RUNS, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        executor.execute(() -> await(blocker));
+        executor.execute(() -> await(blocker));
+
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger();
+        executor.execute(() -> {
+            if (Thread.currentThread() == caller) {
+                ranOnCaller.incrementAndGet();
+            }
+        });
+        blocker.countDown();
+
+        assertThat(ranOnCaller.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.overload.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책에서 밀려난 작업의 Future는 취소되고 거절 수로 기록된다.")
+    void dropOldestCancelsEvictedFuture() throws Exception {
+        executor = newExecutor(OverloadPolicy.DROP_OLDEST, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        executor.execute(() -> await(blocker));
+        Future<?> oldest = executor.submit(() -> { });
+        CompletableFuture<Void> middle = executor.submitCompletable(() -> { });
+        CompletableFuture<Void> newest = executor.submitCompletable(() -> { });
+        blocker.countDown();
+
+        newest.get(5, TimeUnit.SECONDS);
+        assertThat(oldest.isCancelled()).isTrue();
+        assertThat(middle.isCancelled()).isTrue();
+        assertThat(meterRegistry.get("executor.overload.rejected").counter().count()).isEqualTo(2);
+    }
+
+    private BoundedTaskExecutor newExecutor(OverloadPolicy policy, int queueCapacity) {
+        BoundedTaskExecutor executor = new BoundedTaskExecutor("test", policy, meterRegistry);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.ssafy.projectree.global.async;
+
+import com.ssafy.projectree.global.api.code.ErrorCode;
+import com.ssafy.projectree.global.exception.BusinessLogicException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadFanOutTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadFanOut fanOut = new VirtualThreadFanOut(meterRegistry, Duration.ofSeconds(2));
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업들은 동시에 실행되어 가장 느린 작업만큼만 걸리고, 작업별 소요 시간이 기록된다.")
+    void runPartsConcurrently() {
+        long start = System.nanoTime();
+        try (VirtualThreadFanOut.Scope scope = fanOut.open("test", Duration.ofSeconds(5))) {
+            VirtualThreadFanOut.Fork<String> a = scope.fork("a", () -> sleepAndReturn(300, "a"));
+            VirtualThreadFanOut.Fork<String> b = scope.fork("b", () -> sleepAndReturn(300, "b"));
+            VirtualThreadFanOut.Fork<String> c = scope.fork("c", () -> sleepAndReturn(300, "c"));
+            scope.join();
+
+            assertThat(a.get() + b.get() + c.get()).isEqualTo("abc");
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(800));
+        assertThat(meterRegistry.get("fanout.part").tag("part", "b").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("하나가 실패하면 나머지 작업은 취소되고 실패한 작업의 예외가 전달된다.")
+    void cancelSiblingsOnFailure() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (VirtualThreadFanOut.Scope scope = fanOut.open("test", Duration.ofSeconds(5))) {
+            scope.fork("slow", () -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return "slow";
+            });
+            scope.fork("broken", () -> {
+                throw new BusinessLogicException(ErrorCode.WORKSPACE_NOT_FOUND);
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(BusinessLogicException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.WORKSPACE_NOT_FOUND);
+        }
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 작업이 있으면 시간 초과 예외가 발생한다.")
+    void timeoutPart() {
+        try (VirtualThreadFanOut.Scope scope = fanOut.open("test", Duration.ofMillis(100))) {
+            scope.fork("fast", () -> "fast");
+            scope.fork("slow", () -> sleepAndReturn(5_000, "slow"));
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(BusinessLogicException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.READ_TIMEOUT_ERROR);
+        }
+
+        assertThat(meterRegistry.get("fanout.part").tag("part", "slow").tag("outcome", "timeout").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인터럽트를 무시하는 작업이 있어도 Scope를 벗어나기 전에 그 작업이 끝날 때까지 기다린다.")
+    void closeWaitsForUninterruptibleParts() {
+        AtomicBoolean finished = new AtomicBoolean();
+
+        try (VirtualThreadFanOut.Scope scope = fanOut.open("test", Duration.ofSeconds(5))) {
+            scope.fork("jdbc", () -> {
+                busyWait(300);
+                finished.set(true);
+                return "jdbc";
+            });
+            scope.fork("broken", () -> {
+                throw new BusinessLogicException(ErrorCode.WORKSPACE_NOT_FOUND);
+            });
+
+            assertThatThrownBy(scope::join).isInstanceOf(BusinessLogicException.class);
+        }
+
+        assertThat(finished).isTrue();
+    }
+
+    @Test
+    @DisplayName("close-wait 안에 끝나지 않은 작업은 fanout.abandoned로 기록된다.")
+    void recordAbandonedParts() {
+        VirtualThreadFanOut shortWait = new VirtualThreadFanOut(meterRegistry, Duration.ofMillis(50));
+        try {
+            try (VirtualThreadFanOut.Scope scope = shortWait.open("test", Duration.ofMillis(50))) {
+                scope.fork("jdbc", () -> {
+                    busyWait(500);
+                    return "jdbc";
+                });
+
+                assertThatThrownBy(scope::join).isInstanceOf(BusinessLogicException.class);
+            }
+
+            assertThat(meterRegistry.get("fanout.abandoned").tag("part", "jdbc").counter().count()).isEqualTo(1);
+        } finally {
+            shortWait.shutdown();
+        }
+    }
+
+    // 인터럽트에 반응하지 않는 블로킹 호출 흉내
+    private static void busyWait(long millis) {
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static String sleepAndReturn(long millis, String value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+}
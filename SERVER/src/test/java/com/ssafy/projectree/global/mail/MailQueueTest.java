@@ -0,0 +1,225 @@
+package com.ssafy.projectree.global.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailQueueTest {
+
+    private static final int CONNECTIONS = 2;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FakeSmtpServer smtpServer;
+    private MailQueue mailQueue;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtpServer = new FakeSmtpServer();
+        mailQueue = newQueue(CONNECTIONS);
+        mailQueue.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mailQueue.stop();
+        smtpServer.close();
+    }
+
+    @Test
+    @DisplayName("한꺼번에 들어온 초대 메일 10통은 발송 스레드 수 이하의 SMTP 연결로 묶여서 발송된다.")
+    void sendBurstOverPooledConnections() {
+        List<CompletableFuture<Void>> results = IntStream.range(0, 10)
+                .mapToObj(i -> mailQueue.submit(mail("member" + i + "@test.com")))
+                .toList();
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+
+        assertThat(smtpServer.messages()).isEqualTo(10);
+        assertThat(smtpServer.connections()).isLessThanOrEqualTo(CONNECTIONS);
+        assertThat(meterRegistry.get("mail.sent").tag("result", "success").counter().count()).isEqualTo(10);
+        assertThat(meterRegistry.get("mail.send.latency").timer().count()).isPositive();
+        assertThat(meterRegistry.get("mail.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송 중 연결이 끊기면 다시 연결하여 남은 메일을 재시도한다.")
+    void retryAfterConnectionDrop() {
+        smtpServer.dropAfterMessages(2);
+
+        List<CompletableFuture<Void>> results = IntStream.range(0, 5)
+                .mapToObj(i -> mailQueue.submit(mail("member" + i + "@test.com")))
+                .toList();
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+
+        assertThat(smtpServer.messages()).isEqualTo(5);
+        assertThat(smtpServer.connections()).isGreaterThan(1);
+        assertThat(meterRegistry.get("mail.send.retried").counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("발송 스레드가 가져가기 전에 취소된 메일은 보내지 않고, 이미 가져간 메일은 취소되지 않는다.")
+    void skipCancelledMail() throws Exception {
+        MailQueue singleSender = newQueue(1);
+        singleSender.start();
+        try {
+            smtpServer.holdGreeting();
+            CompletableFuture<Void> sending = singleSender.submit(mail("first@test.com"));
+            // 발송 스레드가 첫 메일을 가져가 연결을 맺는 중
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (smtpServer.connections() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            CompletableFuture<Void> queued = singleSender.submit(mail("second@test.com"));
+
+            assertThat(queued.cancel(false)).isTrue();
+            assertThat(sending.cancel(false)).isFalse();
+
+            smtpServer.releaseGreeting();
+            sending.orTimeout(10, TimeUnit.SECONDS).join();
+            CompletableFuture<Void> next = singleSender.submit(mail("third@test.com"));
+            next.orTimeout(10, TimeUnit.SECONDS).join();
+
+            assertThat(smtpServer.messages()).isEqualTo(2);
+        } finally {
+            singleSender.stop();
+        }
+    }
+
+    private MailQueue newQueue(int connections) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpServer.port());
+        return new MailQueue(mailSender, meterRegistry, 100, connections, 20,
+                Duration.ofMillis(200), Duration.ofSeconds(1), 3, Duration.ofMillis(50));
+    }
+
+    private SimpleMailMessage mail(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@projectree.com");
+        message.setTo(to);
+        message.setSubject("[ProjecTree] 워크스페이스에 초대되었습니다.");
+        message.setText("[ProjecTree] 초대 링크: test");
+        return message;
+    }
+
+    /**
+     * 테스트용 최소 SMTP 서버: 연결 수와 수신한 메일 수만 센다.
+     */
+    private static class FakeSmtpServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket = new ServerSocket(0);
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger messages = new AtomicInteger();
+        private volatile int dropAfterMessages = -1;
+        private volatile CountDownLatch greeting = new CountDownLatch(0);
+
+        FakeSmtpServer() throws IOException {
+            Thread.ofVirtual().start(this::accept);
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        int connections() {
+            return connections.get();
+        }
+
+        int messages() {
+            return messages.get();
+        }
+
+        // 지정한 수만큼 메일을 받은 뒤 한 번 연결을 끊는다.
+        void dropAfterMessages(int count) {
+            dropAfterMessages = count;
+        }
+
+        // 풀어 줄 때까지 새 연결에 인사(220)를 보내지 않아, 클라이언트가 연결 중인 상태로 머물게 한다.
+        void holdGreeting() {
+            greeting = new CountDownLatch(1);
+        }
+
+        void releaseGreeting() {
+            greeting.countDown();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    Thread.ofVirtual().start(() -> serve(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+                greeting.await();
+                reply(out, "220 localhost ESMTP");
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("DATA")) {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while (!".".equals(in.readLine())) {
+                            // 본문은 버림
+                        }
+                        // 응답 없이 끊은 메일은 받지 않은 것으로 침
+                        if (messages.get() == dropAfterMessages) {
+                            dropAfterMessages = -1;
+                            return;
+                        }
+                        messages.incrementAndGet();
+                        reply(out, "250 OK");
+                    } else if (command.startsWith("QUIT")) {
+                        reply(out, "221 Bye");
+                        return;
+                    } else {
+                        reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 연결을 끊은 경우
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
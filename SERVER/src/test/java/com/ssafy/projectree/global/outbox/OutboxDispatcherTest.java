@@ -0,0 +1,163 @@
+package com.ssafy.projectree.global.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class OutboxDispatcherTest {
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FakeHandler handler = new FakeHandler();
+
+    @Test
+    @DisplayName("스케줄러 스레드에서는 전달을 실행기에 넘기기만 한다.")
+    void pollOnlyHandsOff() {
+        Executor executor = mock(Executor.class);
+        OutboxDispatcher dispatcher = newDispatcher(executor, Duration.ofMinutes(1));
+
+        dispatcher.poll();
+        dispatcher.schedulePurge();
+
+        verify(executor, times(2)).execute(any());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("전달 결과를 기다리지 않고 반환하며, 완료되면 콜백에서 SENT로 기록한다.")
+    void completeFromCallback() {
+        OutboxDispatcher dispatcher = newDispatcher(Runnable::run, Duration.ofMinutes(1));
+        claim(event(1L, 1));
+
+        dispatcher.dispatch();
+        verify(repository, never()).markSent(any(), any());
+
+        handler.deliveries.get(0).complete(null);
+        verify(repository).markSent(eq(1L), any());
+        assertThat(meterRegistry.get("outbox.dispatched").tag("result", "success").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패하면 백오프 후 재시도로 예약하고, 최대 시도 횟수에 도달하면 FAILED로 남긴다.")
+    void retryThenFail() {
+        OutboxDispatcher dispatcher = newDispatcher(Runnable::run, Duration.ofMinutes(1));
+        claim(event(1L, 1), event(2L, 3));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        handler.deliveries.forEach(delivery -> delivery.completeExceptionally(new IllegalStateException("smtp down")));
+
+        // 첫 시도 실패: 10초 뒤 재시도
+        verify(repository).scheduleRetry(eq(1L),
+                argThat(next -> !next.isBefore(before.plusSeconds(10)) && next.isBefore(before.plusSeconds(15))),
+                argThat(error -> error.contains("smtp down")));
+        verify(repository).markFailed(eq(2L), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("시간 안에 시작되지 않은 전달은 취소하여 재시도하고, 이미 시작된 전달은 선점을 연장한다.")
+    void giveUpOrExtendLease() {
+        OutboxDispatcher dispatcher = newDispatcher(Runnable::run, Duration.ofMillis(50));
+        handler.cancellable = false;
+        claim(event(1L, 1));
+        dispatcher.dispatch();
+        verify(repository, timeout(1_000).atLeastOnce()).extendLease(eq(1L), any());
+        verify(repository, never()).scheduleRetry(any(), any(), any());
+
+        handler.cancellable = true;
+        claim(event(2L, 1));
+        dispatcher.dispatch();
+        verify(repository, timeout(1_000)).scheduleRetry(eq(2L), any(), anyString());
+
+        // 연장 중이던 전달이 끝나면 SENT로 기록
+        handler.deliveries.get(0).complete(null);
+        verify(repository).markSent(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 처리 완료 이벤트를 삭제한다.")
+    void purgeProcessed() {
+        OutboxDispatcher dispatcher = newDispatcher(Runnable::run, Duration.ofMinutes(1));
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.schedulePurge();
+
+        verify(repository).deleteProcessedBefore(argThat(cutoff ->
+                !cutoff.isBefore(before.minusDays(3)) && cutoff.isBefore(before.minusDays(3).plusSeconds(5))));
+    }
+
+    private OutboxDispatcher newDispatcher(Executor executor, Duration deliveryTimeout) {
+        return new OutboxDispatcher(repository, List.of(handler), executor, meterRegistry,
+                50, 200, 3, Duration.ofMinutes(5), deliveryTimeout,
+                Duration.ofSeconds(10), Duration.ofMinutes(30), Duration.ofDays(3));
+    }
+
+    private void claim(OutboxEvent... events) {
+        List<Long> ids = Arrays.stream(events).map(OutboxEvent::getId).toList();
+        given(repository.claim(any(), any(), anyInt())).willReturn(ids, List.of());
+        given(repository.findAllById(ids)).willReturn(List.of(events));
+    }
+
+    private static OutboxEvent event(Long id, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .type(OutboxEventType.INVITE_EMAIL)
+                .payload("{}")
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .build();
+    }
+
+    // 결과를 테스트에서 직접 완료시키는 핸들러 (cancellable=false면 이미 발송이 시작된 메일처럼 취소되지 않음)
+    private static class FakeHandler implements OutboxHandler {
+
+        private final List<CompletableFuture<Void>> deliveries = new CopyOnWriteArrayList<>();
+        private volatile boolean cancellable = true;
+
+        @Override
+        public OutboxEventType type() {
+            return OutboxEventType.INVITE_EMAIL;
+        }
+
+        @Override
+        public void handle(String payload) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Void> handleAsync(String payload) {
+            boolean canCancel = cancellable;
+            CompletableFuture<Void> delivery = new CompletableFuture<>() {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    return canCancel && super.cancel(mayInterruptIfRunning);
+                }
+            };
+            deliveries.add(delivery);
+            return delivery;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.projectree.global.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OutboxServiceTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("호출한 트랜잭션이 롤백되면 아웃박스 기록도 함께 사라진다.")
+    void enqueueRollsBackWithCaller() {
+        long before = outboxEventRepository.count();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.enqueue(OutboxEventType.INVITE_EMAIL, Map.of("to", "member@test.com"));
+            // 같은 트랜잭션 안에서는 PENDING으로 보임
+            assertThat(outboxEventRepository.count()).isEqualTo(before + 1);
+            assertThat(outboxEventRepository.findAll())
+                    .anyMatch(event -> event.getStatus() == OutboxStatus.PENDING
+                            && event.getType() == OutboxEventType.INVITE_EMAIL);
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.count()).isEqualTo(before);
+    }
+}